@@ -0,0 +1,95 @@
+package twg2.io.bench;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+/** Temp file generation shared by the benchmarks, files are generated locally so the benchmarks run offline
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+public final class BenchFiles {
+
+	private BenchFiles() { throw new AssertionError("cannot instantiate static class BenchFiles"); }
+
+
+	/** The text content types benchmarked */
+	public enum Content {
+		/** 7-bit ASCII text encoded as UTF-8 */
+		ASCII(StandardCharsets.UTF_8, "The quick brown fox jumps over the lazy dog 0123456789.\n"),
+		/** mostly ASCII text with 2, 3, and 4 byte UTF-8 sequences mixed in */
+		UTF8_MIXED(StandardCharsets.UTF_8, "The quick brown f\u00f6x jumps \u00fcber the lazy d\u00f8g \u2014 \u65e5\u672c\u8a9e \ud83d\ude00.\n"),
+		/** mixed text encoded as UTF-16 with a byte order mark */
+		UTF16(StandardCharsets.UTF_16, "The quick brown f\u00f6x jumps \u00fcber the lazy d\u00f8g \u2014 \u65e5\u672c\u8a9e.\n");
+
+		public final Charset charset;
+		final String line;
+
+		Content(Charset charset, String line) {
+			this.charset = charset;
+			this.line = line;
+		}
+	}
+
+
+	/** Create a temp file approximately {@code size} bytes long filled with repeated lines of the content type's text
+	 * @param size the file size in bytes, the file is truncated to a whole number of characters at or below this size
+	 * @param content the text to fill the file with
+	 * @return the new temp file, the caller is responsible for deleting it
+	 */
+	public static Path createTextFile(long size, Content content) throws IOException {
+		Path file = Files.createTempFile("jfileio-bench", ".txt");
+		// encode the line without a BOM, the BOM (if any) is written once at the start of the file
+		byte[] line = content.line.getBytes(content.charset == StandardCharsets.UTF_16 ? StandardCharsets.UTF_16BE : content.charset);
+		try(OutputStream os = Files.newOutputStream(file)) {
+			long written = 0;
+			if(content.charset == StandardCharsets.UTF_16) {
+				os.write(new byte[] { (byte)0xFE, (byte)0xFF });
+				written += 2;
+			}
+			byte[] block = repeat(line, 64 * 1024);
+			while(written + block.length <= size) {
+				os.write(block);
+				written += block.length;
+			}
+			while(written + line.length <= size) {
+				os.write(line);
+				written += line.length;
+			}
+		}
+		return file;
+	}
+
+
+	/** Create a temp file exactly {@code size} bytes long filled with pseudo random binary data
+	 */
+	public static Path createBinaryFile(long size) throws IOException {
+		Path file = Files.createTempFile("jfileio-bench", ".bin");
+		byte[] block = new byte[64 * 1024];
+		new Random(size).nextBytes(block);
+		try(OutputStream os = Files.newOutputStream(file)) {
+			long written = 0;
+			while(written < size) {
+				int len = (int)Math.min(block.length, size - written);
+				os.write(block, 0, len);
+				written += len;
+			}
+		}
+		return file;
+	}
+
+
+	private static byte[] repeat(byte[] src, int maxSize) {
+		int count = Math.max(1, maxSize / src.length);
+		byte[] res = new byte[src.length * count];
+		for(int i = 0; i < count; i++) {
+			System.arraycopy(src, 0, res, i * src.length, src.length);
+		}
+		return res;
+	}
+
+}
@@ -0,0 +1,38 @@
+package twg2.io.bench;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/** Runs the JMH benchmarks in this package with the GC profiler enabled so that allocation rates
+ * ({@code gc.alloc.rate.norm}, bytes allocated per operation) are reported alongside the timings.
+ * Benchmarks only read/write local temp files and run offline.
+ * <pre>
+ * java -cp bin;jmh-core.jar;jopt-simple.jar;commons-math3.jar twg2.io.bench.BenchMain [benchmark regex...]
+ * </pre>
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+public class BenchMain {
+
+	/**
+	 * @param args optional benchmark name regexes (i.e. {@code FileReadBench.readString}), all benchmarks in this package are run if none are given
+	 */
+	public static void main(String[] args) throws RunnerException {
+		OptionsBuilder opts = new OptionsBuilder();
+		if(args.length == 0) {
+			opts.include(BenchMain.class.getPackage().getName() + ".*");
+		}
+		for(String arg : args) {
+			opts.include(arg);
+		}
+		Options options = opts
+				.addProfiler(GCProfiler.class)
+				.build();
+
+		new Runner(options).run();
+	}
+
+}
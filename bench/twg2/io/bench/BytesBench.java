@@ -0,0 +1,188 @@
+package twg2.io.bench;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import twg2.io.files.Bytes;
+import twg2.io.files.VarBytes;
+
+/** {@link Bytes} (and {@link VarBytes}) encoding/decoding of primitive arrays compared to an equivalent heap {@link ByteBuffer}
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BytesBench {
+
+	@Param({ "16", "1024", "65536" })
+	public int count;
+
+	private long[] longs;
+	private int[] ints;
+	private double[] doubles;
+	private byte[] buf;
+	private ByteBuffer byteBuf;
+
+
+	@Setup
+	public void setup() {
+		Random rand = new Random(count);
+		longs = new long[count];
+		ints = new int[count];
+		doubles = new double[count];
+		for(int i = 0; i < count; i++) {
+			longs[i] = rand.nextLong();
+			ints[i] = rand.nextInt();
+			doubles[i] = rand.nextDouble();
+		}
+		buf = new byte[count * 8];
+		byteBuf = ByteBuffer.wrap(buf);
+		for(int i = 0; i < count; i++) {
+			Bytes.writeLong(longs[i], buf, i * 8);
+		}
+	}
+
+
+	@Benchmark
+	public byte[] writeLongs() {
+		for(int i = 0, n = longs.length; i < n; i++) {
+			Bytes.writeLong(longs[i], buf, i * 8);
+		}
+		return buf;
+	}
+
+
+	@Benchmark
+	public void readLongs(Blackhole bh) {
+		for(int i = 0, n = longs.length; i < n; i++) {
+			bh.consume(Bytes.readLong(buf, i * 8));
+		}
+	}
+
+
+	@Benchmark
+	public byte[] writeInts() {
+		for(int i = 0, n = ints.length; i < n; i++) {
+			Bytes.writeInt(ints[i], buf, i * 4);
+		}
+		return buf;
+	}
+
+
+	@Benchmark
+	public void readInts(Blackhole bh) {
+		for(int i = 0, n = ints.length; i < n; i++) {
+			bh.consume(Bytes.readInt(buf, i * 4));
+		}
+	}
+
+
+	@Benchmark
+	public byte[] writeDoubles() {
+		for(int i = 0, n = doubles.length; i < n; i++) {
+			Bytes.writeDouble(doubles[i], buf, i * 8);
+		}
+		return buf;
+	}
+
+
+	@Benchmark
+	public void readDoubles(Blackhole bh) {
+		for(int i = 0, n = doubles.length; i < n; i++) {
+			bh.consume(Bytes.readDouble(buf, i * 8));
+		}
+	}
+
+
+	@Benchmark
+	public byte[] bulkWriteLongs() {
+		Bytes.writeLongs(longs, 0, longs.length, buf, 0, ByteOrder.BIG_ENDIAN);
+		return buf;
+	}
+
+
+	@Benchmark
+	public long[] bulkReadLongs() {
+		Bytes.readLongs(buf, 0, longs, 0, longs.length, ByteOrder.BIG_ENDIAN);
+		return longs;
+	}
+
+
+	@Benchmark
+	public long[] scalarReadLongsToArray() {
+		for(int i = 0, n = longs.length; i < n; i++) {
+			longs[i] = Bytes.readLong(buf, i * 8);
+		}
+		return longs;
+	}
+
+
+	@Benchmark
+	public byte[] bulkWriteLongsLittleEndian() {
+		Bytes.writeLongs(longs, 0, longs.length, buf, 0, ByteOrder.LITTLE_ENDIAN);
+		return buf;
+	}
+
+
+	@Benchmark
+	public byte[] scalarWriteLongsLittleEndian() {
+		for(int i = 0, n = longs.length; i < n; i++) {
+			Bytes.writeLongLE(longs[i], buf, i * 8);
+		}
+		return buf;
+	}
+
+
+	@Benchmark
+	public byte[] bulkWriteDoubles() {
+		Bytes.writeDoubles(doubles, 0, doubles.length, buf, 0, ByteOrder.BIG_ENDIAN);
+		return buf;
+	}
+
+
+	@Benchmark
+	public int writeVarLongs() {
+		int off = 0;
+		for(int i = 0, n = longs.length; i < n; i++) {
+			off += VarBytes.writeSignedVarLong(longs[i] >> 40, buf, off);
+		}
+		return off;
+	}
+
+
+	@Benchmark
+	public ByteBuffer byteBufferWriteLongs() {
+		for(int i = 0, n = longs.length; i < n; i++) {
+			byteBuf.putLong(i * 8, longs[i]);
+		}
+		return byteBuf;
+	}
+
+
+	@Benchmark
+	public void byteBufferReadLongs(Blackhole bh) {
+		for(int i = 0, n = longs.length; i < n; i++) {
+			bh.consume(byteBuf.getLong(i * 8));
+		}
+	}
+
+}
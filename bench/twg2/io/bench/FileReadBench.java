@@ -0,0 +1,91 @@
+package twg2.io.bench;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import twg2.io.files.FileReadUtil;
+
+/** Whole file reads using {@link FileReadUtil} compared to {@link Files#readAllBytes(Path)} over a matrix of file sizes and text encodings.
+ * NOTE: the 1 GB size requires a heap of at least 4 GB ({@code -jvmArgs -Xmx4g}), use {@code -p fileSize=...} to run a subset of sizes.
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+public class FileReadBench {
+
+	/** 1 KB, 64 KB, 1 MB, 64 MB, 1 GB */
+	@Param({ "1024", "65536", "1048576", "67108864", "1073741824" })
+	public long fileSize;
+
+	@Param({ "ASCII", "UTF8_MIXED", "UTF16" })
+	public BenchFiles.Content content;
+
+	private Path file;
+	private FileReadUtil reader;
+
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		file = BenchFiles.createTextFile(fileSize, content);
+		reader = new FileReadUtil(content.charset, 8192);
+	}
+
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		Files.deleteIfExists(file);
+	}
+
+
+	@Benchmark
+	public byte[] readBytes() throws IOException {
+		return reader.readBytes(file);
+	}
+
+
+	@Benchmark
+	public String readString() throws IOException {
+		return reader.readString(file);
+	}
+
+
+	@Benchmark
+	public int readCharSequence() throws IOException {
+		return reader.readCharSequence(file).length();
+	}
+
+
+	@Benchmark
+	public byte[] jdkReadAllBytes() throws IOException {
+		return Files.readAllBytes(file);
+	}
+
+
+	/** The Java 9 equivalent of {@code Files.readString(Path, Charset)} (added in Java 11) */
+	@Benchmark
+	public String jdkReadString() throws IOException {
+		return new String(Files.readAllBytes(file), content.charset);
+	}
+
+}
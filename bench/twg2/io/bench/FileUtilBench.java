@@ -0,0 +1,71 @@
+package twg2.io.bench;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import twg2.io.files.FileUtil;
+
+/** {@link FileUtil#overwriteFile(String, String)} compared to {@link Files#copy(Path, Path, java.nio.file.CopyOption...)}
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FileUtilBench {
+
+	/** 1 KB, 1 MB, 64 MB */
+	@Param({ "1024", "1048576", "67108864" })
+	public long fileSize;
+
+	private Path src;
+	private Path dst;
+
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		src = BenchFiles.createBinaryFile(fileSize);
+		dst = BenchFiles.createBinaryFile(0);
+	}
+
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		Files.deleteIfExists(src);
+		Files.deleteIfExists(dst);
+	}
+
+
+	@Benchmark
+	public Path overwriteFile() throws IOException {
+		FileUtil.overwriteFile(src.toString(), dst.toString());
+		return dst;
+	}
+
+
+	@Benchmark
+	public Path jdkCopy() throws IOException {
+		return Files.copy(src, dst, StandardCopyOption.REPLACE_EXISTING);
+	}
+
+}
@@ -0,0 +1,87 @@
+package twg2.io.bench;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import twg2.io.files.FileUtil;
+import twg2.io.files.FileWriteUtil;
+
+/** {@link FileWriteUtil} text writes compared to {@link FileUtil#writerBuffered(java.io.File, java.nio.charset.Charset)}
+ * and {@link Files#write(Path, byte[], java.nio.file.OpenOption...)}
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FileWriteBench {
+
+	/** 1 KB, 64 KB, 1 MB */
+	@Param({ "1024", "65536", "1048576" })
+	public int textSize;
+
+	@Param({ "ASCII", "UTF8_MIXED" })
+	public BenchFiles.Content content;
+
+	private String text;
+	private Path file;
+	private FileWriteUtil writeUtil;
+
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		Path src = BenchFiles.createTextFile(textSize, content);
+		text = new String(Files.readAllBytes(src), content.charset);
+		Files.delete(src);
+		file = Files.createTempFile("jfileio-bench", ".txt");
+		writeUtil = new FileWriteUtil();
+	}
+
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		Files.deleteIfExists(file);
+	}
+
+
+	@Benchmark
+	public long fileWriteUtil() throws IOException {
+		return writeUtil.write(file, text, content.charset);
+	}
+
+
+	@Benchmark
+	public Path writerBuffered() throws IOException {
+		try(Writer writer = FileUtil.writerBuffered(file.toFile(), content.charset)) {
+			writer.write(text);
+		}
+		return file;
+	}
+
+
+	@Benchmark
+	public Path jdkWrite() throws IOException {
+		return Files.write(file, text.getBytes(content.charset));
+	}
+
+}
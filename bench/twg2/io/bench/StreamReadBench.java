@@ -0,0 +1,94 @@
+package twg2.io.bench;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import twg2.io.files.FileReadUtil;
+
+/** {@link InputStream} reads of unknown length, which exercise {@link FileReadUtil#readBytes(InputStream, int)}'s buffer
+ * growth and {@link FileReadUtil#increaseChunkSize(int, int)}, over a matrix of stream sizes and initial chunk sizes.
+ * A new reader is used per invocation in the 'cold' benchmarks to measure growth from an empty cache.
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Xms2g", "-Xmx2g" })
+public class StreamReadBench {
+
+	/** 1 KB, 64 KB, 1 MB, 64 MB */
+	@Param({ "1024", "65536", "1048576", "67108864" })
+	public long fileSize;
+
+	@Param({ "1024", "8192", "65536" })
+	public int chunkSize;
+
+	private Path file;
+	private FileReadUtil reader;
+
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		file = BenchFiles.createTextFile(fileSize, BenchFiles.Content.UTF8_MIXED);
+		reader = new FileReadUtil(null, chunkSize);
+	}
+
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		Files.deleteIfExists(file);
+	}
+
+
+	@Benchmark
+	public byte[] readBytesWarm() throws IOException {
+		try(InputStream is = Files.newInputStream(file)) {
+			return reader.readBytes(is, chunkSize);
+		}
+	}
+
+
+	@Benchmark
+	public byte[] readBytesCold() throws IOException {
+		try(InputStream is = Files.newInputStream(file)) {
+			return new FileReadUtil(null, chunkSize).readBytes(is, chunkSize);
+		}
+	}
+
+
+	@Benchmark
+	public String readStringWarm() throws IOException {
+		try(InputStream is = Files.newInputStream(file)) {
+			return reader.readString(is, chunkSize);
+		}
+	}
+
+
+	@Benchmark
+	public byte[] jdkReadAllBytes() throws IOException {
+		try(InputStream is = Files.newInputStream(file)) {
+			return is.readAllBytes();
+		}
+	}
+
+}
@@ -0,0 +1,185 @@
+package twg2.io.files;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/** A thread safe, lock-free pool of byte[] buffers grouped into power-of-two size classes.
+ * Buffers are leased for the duration of a single operation and then released back into the pool.
+ * The total number of bytes retained by the pool is bounded by {@link #getMaxRetainedBytes()},
+ * buffers released while the pool is full are dropped and left for the garbage collector.
+ * Unlike {@link FileReadUtil#threadLocalInst()}, no buffers are pinned to threads, so thousands of
+ * short lived threads can share a small set of buffers.
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+public class BufferPool {
+	/** smallest pooled buffer size, 1 KB */
+	static final int MIN_SIZE_CLASS = 10;
+	/** largest pooled buffer size, 1 GB */
+	static final int MAX_SIZE_CLASS = 30;
+	private static final int SIZE_CLASS_COUNT = MAX_SIZE_CLASS - MIN_SIZE_CLASS + 1;
+
+	private final long maxRetainedBytes;
+	private final int buffersPerSizeClass;
+	/** flattened [size class][slot] array of available buffers, empty slots are null */
+	private final AtomicReferenceArray<byte[]> byteSlots;
+	private final AtomicLong retainedBytes = new AtomicLong();
+	// ==== stats ====
+	private final AtomicLong leaseCount = new AtomicLong();
+	private final AtomicLong leaseHitCount = new AtomicLong();
+	private final AtomicLong dropCount = new AtomicLong();
+
+
+	/** Create a buffer pool which retains at most 64 MB and 8 buffers per size class
+	 */
+	public BufferPool() {
+		this(64 * 1024 * 1024, 8);
+	}
+
+
+	/** Create a buffer pool
+	 * @param maxRetainedBytes the maximum number of bytes this pool retains between leases
+	 * @param buffersPerSizeClass the maximum number of buffers retained for each power-of-two size class, must be greater than 0
+	 */
+	public BufferPool(long maxRetainedBytes, int buffersPerSizeClass) {
+		if(maxRetainedBytes < 0) {
+			throw new IllegalArgumentException("maxRetainedBytes must not be negative");
+		}
+		if(buffersPerSizeClass < 1) {
+			throw new IllegalArgumentException("buffersPerSizeClass must be greater than 0");
+		}
+		this.maxRetainedBytes = maxRetainedBytes;
+		this.buffersPerSizeClass = buffersPerSizeClass;
+		this.byteSlots = new AtomicReferenceArray<>(SIZE_CLASS_COUNT * buffersPerSizeClass);
+	}
+
+
+	public long getMaxRetainedBytes() {
+		return maxRetainedBytes;
+	}
+
+
+	/**
+	 * @return the number of bytes currently held by this pool which are not leased
+	 */
+	public long getRetainedBytes() {
+		return retainedBytes.get();
+	}
+
+
+	public long getLeaseCount() {
+		return leaseCount.get();
+	}
+
+
+	/**
+	 * @return the number of leases which were fulfilled by a pooled buffer instead of a new allocation
+	 */
+	public long getLeaseHitCount() {
+		return leaseHitCount.get();
+	}
+
+
+	/**
+	 * @return the number of released buffers which were not retained because the pool was full
+	 */
+	public long getDropCount() {
+		return dropCount.get();
+	}
+
+
+	/** Lease a byte[] from this pool. The returned array is at least {@code minSize} long and should be
+	 * passed to {@link #release(byte[])} once the caller is done with it.
+	 * @param minSize the minimum length of the returned array
+	 * @return a pooled or newly allocated array, the array's contents are undefined
+	 */
+	public byte[] leaseBytes(int minSize) {
+		leaseCount.incrementAndGet();
+		int sizeClass = sizeClass(minSize);
+		if(sizeClass > MAX_SIZE_CLASS) {
+			return new byte[minSize];
+		}
+		int base = (sizeClass - MIN_SIZE_CLASS) * buffersPerSizeClass;
+		for(int i = base, end = base + buffersPerSizeClass; i < end; i++) {
+			byte[] buf = byteSlots.get(i);
+			if(buf != null && byteSlots.compareAndSet(i, buf, null)) {
+				retainedBytes.addAndGet(-buf.length);
+				leaseHitCount.incrementAndGet();
+				return buf;
+			}
+		}
+		return new byte[1 << sizeClass];
+	}
+
+
+	/** Return a buffer leased from {@link #leaseBytes(int)} to this pool.
+	 * The caller must not use the array after releasing it.
+	 * Arrays which do not match a size class or which would exceed this pool's size limits are dropped.
+	 * @param buf the buffer to release, null is ignored
+	 */
+	public void release(byte[] buf) {
+		if(buf == null) {
+			return;
+		}
+		int len = buf.length;
+		if(Integer.bitCount(len) != 1 || len < (1 << MIN_SIZE_CLASS) || len > (1 << MAX_SIZE_CLASS) || !reserve(len)) {
+			dropCount.incrementAndGet();
+			return;
+		}
+		int base = (Integer.numberOfTrailingZeros(len) - MIN_SIZE_CLASS) * buffersPerSizeClass;
+		for(int i = base, end = base + buffersPerSizeClass; i < end; i++) {
+			if(byteSlots.get(i) == null && byteSlots.compareAndSet(i, null, buf)) {
+				return;
+			}
+		}
+		// no free slot in this size class
+		retainedBytes.addAndGet(-len);
+		dropCount.incrementAndGet();
+	}
+
+
+	/** Drop all of the buffers currently retained by this pool
+	 */
+	public void clear() {
+		for(int i = 0, size = byteSlots.length(); i < size; i++) {
+			byte[] buf = byteSlots.getAndSet(i, null);
+			if(buf != null) {
+				retainedBytes.addAndGet(-buf.length);
+			}
+		}
+	}
+
+
+	/** Try to add {@code size} to {@link #retainedBytes} without exceeding {@link #maxRetainedBytes}
+	 */
+	private boolean reserve(long size) {
+		while(true) {
+			long cur = retainedBytes.get();
+			if(cur + size > maxRetainedBytes) {
+				return false;
+			}
+			if(retainedBytes.compareAndSet(cur, cur + size)) {
+				return true;
+			}
+		}
+	}
+
+
+	@Override
+	public String toString() {
+		return "BufferPool: { retainedBytes: " + retainedBytes.get() + ", maxRetainedBytes: " + maxRetainedBytes +
+				", leases: " + leaseCount.get() + ", leaseHits: " + leaseHitCount.get() + ", drops: " + dropCount.get() + " }";
+	}
+
+
+	/**
+	 * @return the base 2 log of the smallest power of two greater than or equal to {@code size}, at least {@link #MIN_SIZE_CLASS}
+	 */
+	static int sizeClass(int size) {
+		if(size <= (1 << MIN_SIZE_CLASS)) {
+			return MIN_SIZE_CLASS;
+		}
+		return 32 - Integer.numberOfLeadingZeros(size - 1);
+	}
+
+}
@@ -1,12 +1,32 @@
 package twg2.io.files;
 
-/** A utility class for converting primitive types to/from bytes in big-endian order.
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+/** A utility class for converting primitive types to/from bytes in big-endian order (or little-endian order using the {@code *LE} methods).
  * For example converting an integer to 4 bytes and storing those 4 bytes
  * at a specific location in a byte array.
+ * Single values and the elements of the bulk array methods (which accept a {@link ByteOrder}) are read/written through
+ * {@link MethodHandles#byteArrayViewVarHandle(Class, ByteOrder) byte array view} {@link VarHandle}s,
+ * so each value is a single (possibly unaligned) wide load/store rather than one per byte.
  * @author TeamworkGuy2
  * @since 2014-4-27
  */
 public final class Bytes {
+	// methods should reference these fields directly (not through a local variable) so the JIT treats the handles as constants and inlines the access
+	static final VarHandle SHORT_BE = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.BIG_ENDIAN);
+	static final VarHandle SHORT_LE = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.LITTLE_ENDIAN);
+	static final VarHandle INT_BE = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+	static final VarHandle INT_LE = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+	static final VarHandle LONG_BE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+	static final VarHandle LONG_LE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+	static final VarHandle FLOAT_BE = MethodHandles.byteArrayViewVarHandle(float[].class, ByteOrder.BIG_ENDIAN);
+	static final VarHandle FLOAT_LE = MethodHandles.byteArrayViewVarHandle(float[].class, ByteOrder.LITTLE_ENDIAN);
+	static final VarHandle DOUBLE_BE = MethodHandles.byteArrayViewVarHandle(double[].class, ByteOrder.BIG_ENDIAN);
+	static final VarHandle DOUBLE_LE = MethodHandles.byteArrayViewVarHandle(double[].class, ByteOrder.LITTLE_ENDIAN);
 
 	private Bytes() { throw new AssertionError("cannot instantiate Bytes"); }
 
@@ -17,7 +37,7 @@ public final class Bytes {
 	 * @param offset the offset into the array at which to write the 8 bytes
 	 */
 	public static void writeDouble(double value, byte[] b, int offset) {
-		writeLong(Double.doubleToRawLongBits(value), b, offset);
+		DOUBLE_BE.set(b, offset, value);
 	}
 
 
@@ -27,7 +47,7 @@ public final class Bytes {
 	 * @param offset the offset into the array at which to write the 4 bytes
 	 */
 	public static void writeFloat(float value, byte[] b, int offset) {
-		writeInt(Float.floatToRawIntBits(value), b, offset);
+		FLOAT_BE.set(b, offset, value);
 	}
 
 
@@ -37,14 +57,7 @@ public final class Bytes {
 	 * @param offset the offset into the array at which to write the 8 bytes
 	 */
 	public static void writeLong(long value, byte[] b, int offset) {
-		b[offset] = (byte)(value >>> 56);
-		b[offset+1] = (byte)(value >>> 48);
-		b[offset+2] = (byte)(value >>> 40);
-		b[offset+3] = (byte)(value >>> 32);
-		b[offset+4] = (byte)(value >>> 24);
-		b[offset+5] = (byte)(value >>> 16);
-		b[offset+6] = (byte)(value >>> 8);
-		b[offset+7] = (byte)(value );
+		LONG_BE.set(b, offset, value);
 	}
 
 
@@ -54,10 +67,7 @@ public final class Bytes {
 	 * @param offset the offset into the array at which to write the 4 bytes
 	 */
 	public static void writeInt(int value, byte[] b, int offset) {
-		b[offset] = (byte)(value >>> 24);
-		b[offset+1] = (byte)(value >>> 16);
-		b[offset+2] = (byte)(value >>> 8);
-		b[offset+3] = (byte)(value );
+		INT_BE.set(b, offset, value);
 	}
 
 
@@ -67,8 +77,7 @@ public final class Bytes {
 	 * @param offset the offset into the array at which to write the 2 bytes
 	 */
 	public static void writeShort(short value, byte[] b, int offset) {
-		b[offset] = (byte)(value >>> 8);
-		b[offset+1] = (byte)(value );
+		SHORT_BE.set(b, offset, value);
 	}
 
 
@@ -85,11 +94,11 @@ public final class Bytes {
 	/** Read a double value from the specified location in the specified array (assumes big-endian order)
 	 * @param b the array to read the double from
 	 * @param offset the offset into the array at which to read the 8 bytes
-	 * @return eight bytes read from the indices {@code [offset, offset+3]} and
+	 * @return eight bytes read from the indices {@code [offset, offset+7]} and
 	 * converted to a double
 	 */
 	public static double readDouble(byte[] b, int offset) {
-		return Double.longBitsToDouble(readLong(b, offset));
+		return (double)DOUBLE_BE.get(b, offset);
 	}
 
 
@@ -100,28 +109,21 @@ public final class Bytes {
 	 * converted to a float
 	 */
 	public static final float readFloat(byte[] b, int offset) {
-		return Float.intBitsToFloat(readInt(b, offset));
+		return (float)FLOAT_BE.get(b, offset);
 	}
 
 
 	/** Read a long value from the specified location in the specified array (assumes big-endian order)
 	 * @param b the array to read the long from
 	 * @param offset the offset into the array at which to read the 8 bytes
-	 * @return eight bytes read from the indices {@code [offset, offset+3]} and converted to
+	 * @return eight bytes read from the indices {@code [offset, offset+7]} and converted to
 	 * a long by {@code ((long)b[offset] << 56) | ((long)(b[offset+1] & 0xFF) << 48) |
 	 * ((long)(b[offset+2] & 0xFF) << 40) | ((long)(b[offset+3] & 0xFF) << 32) |
 	 * ((long)(b[offset+4] & 0xFF) << 24) | ((b[offset+5] & 0xFF) << 16) |
 	 * ((b[offset+6] & 0xFF) << 8) | (b[offset+7] & 0xFF);}
 	 */
 	public static final long readLong(byte[] b, int offset) {
-		return ((long)b[offset] << 56) |
-				((long)(b[offset+1] & 0xFF) << 48) |
-				((long)(b[offset+2] & 0xFF) << 40) |
-				((long)(b[offset+3] & 0xFF) << 32) |
-				((long)(b[offset+4] & 0xFF) << 24) |
-				((b[offset+5] & 0xFF) << 16) |
-				((b[offset+6] & 0xFF) << 8) |
-				(b[offset+7] & 0xFF);
+		return (long)LONG_BE.get(b, offset);
 	}
 
 
@@ -129,10 +131,10 @@ public final class Bytes {
 	 * @param b the array to read the integer from
 	 * @param offset the offset into the array at which to read the 4 bytes
 	 * @return four bytes read from the indices {@code [offset, offset+3]} and converted to
-	 * an integer by {@code (b[offset] << 24) | (b[offset+1] << 16) | (b[offset+2] << 8) | b[offset+3]}
+	 * an integer by {@code (b[offset] << 24) | ((b[offset+1] & 0xFF) << 16) | ((b[offset+2] & 0xFF) << 8) | (b[offset+3] & 0xFF)}
 	 */
 	public static final int readInt(byte[] b, int offset) {
-		return (b[offset] << 24) | (b[offset+1] << 16) | (b[offset+2] << 8) | b[offset+3];
+		return (int)INT_BE.get(b, offset);
 	}
 
 
@@ -140,10 +142,10 @@ public final class Bytes {
 	 * @param b the array to read the short from
 	 * @param offset the offset into the array at which to read the 2 bytes
 	 * @return two bytes read from indices {@code offset} and {@code offset+1} and converted to
-	 * a short by {@code (b[offset] << 8) | b[offset+1]}
+	 * a short by {@code (b[offset] << 8) | (b[offset+1] & 0xFF)}
 	 */
 	public static final short readShort(byte[] b, int offset) {
-		return (short)((b[offset] << 8) | b[offset+1]);
+		return (short)SHORT_BE.get(b, offset);
 	}
 
 
@@ -157,4 +159,444 @@ public final class Bytes {
 		return (b[offset] == 0 ? false : true);
 	}
 
+
+	/** Write a double to the specified byte array as 8 bytes (little-endian order)
+	 * @param value the double to write
+	 * @param b the byte array to write the 'value' to
+	 * @param offset the offset into the array at which to write the 8 bytes
+	 */
+	public static void writeDoubleLE(double value, byte[] b, int offset) {
+		DOUBLE_LE.set(b, offset, value);
+	}
+
+
+	/** Write a float to the specified byte array as 4 bytes (little-endian order)
+	 * @param value the float to write
+	 * @param b the byte array to write the 'value' to
+	 * @param offset the offset into the array at which to write the 4 bytes
+	 */
+	public static void writeFloatLE(float value, byte[] b, int offset) {
+		FLOAT_LE.set(b, offset, value);
+	}
+
+
+	/** Write a long to the specified byte array as 8 bytes (little-endian order)
+	 * @param value the long to write
+	 * @param b the byte array to write the 'value' to
+	 * @param offset the offset into the array at which to write the 8 bytes
+	 */
+	public static void writeLongLE(long value, byte[] b, int offset) {
+		LONG_LE.set(b, offset, value);
+	}
+
+
+	/** Write an int to the specified byte array as 4 bytes (little-endian order)
+	 * @param value the int to write
+	 * @param b the byte array to write the 'value' to
+	 * @param offset the offset into the array at which to write the 4 bytes
+	 */
+	public static void writeIntLE(int value, byte[] b, int offset) {
+		INT_LE.set(b, offset, value);
+	}
+
+
+	/** Write a short to the specified byte array as 2 bytes (little-endian order)
+	 * @param value the short to write
+	 * @param b the byte array to write the 'value' to
+	 * @param offset the offset into the array at which to write the 2 bytes
+	 */
+	public static void writeShortLE(short value, byte[] b, int offset) {
+		SHORT_LE.set(b, offset, value);
+	}
+
+
+	/** Read a double value from the specified location in the specified array (assumes little-endian order)
+	 * @param b the array to read the double from
+	 * @param offset the offset into the array at which to read the 8 bytes
+	 * @return the double stored in the indices {@code [offset, offset+7]} with the least significant byte first
+	 */
+	public static double readDoubleLE(byte[] b, int offset) {
+		return (double)DOUBLE_LE.get(b, offset);
+	}
+
+
+	/** Read a float value from the specified location in the specified array (assumes little-endian order)
+	 * @param b the array to read the float from
+	 * @param offset the offset into the array at which to read the 4 bytes
+	 * @return the float stored in the indices {@code [offset, offset+3]} with the least significant byte first
+	 */
+	public static float readFloatLE(byte[] b, int offset) {
+		return (float)FLOAT_LE.get(b, offset);
+	}
+
+
+	/** Read a long value from the specified location in the specified array (assumes little-endian order)
+	 * @param b the array to read the long from
+	 * @param offset the offset into the array at which to read the 8 bytes
+	 * @return the long stored in the indices {@code [offset, offset+7]} with the least significant byte first
+	 */
+	public static long readLongLE(byte[] b, int offset) {
+		return (long)LONG_LE.get(b, offset);
+	}
+
+
+	/** Read an int value from the specified location in the specified array (assumes little-endian order)
+	 * @param b the array to read the int from
+	 * @param offset the offset into the array at which to read the 4 bytes
+	 * @return the int stored in the indices {@code [offset, offset+3]} with the least significant byte first
+	 */
+	public static int readIntLE(byte[] b, int offset) {
+		return (int)INT_LE.get(b, offset);
+	}
+
+
+	/** Read a short value from the specified location in the specified array (assumes little-endian order)
+	 * @param b the array to read the short from
+	 * @param offset the offset into the array at which to read the 2 bytes
+	 * @return the short stored in the indices {@code [offset, offset+1]} with the least significant byte first
+	 */
+	public static short readShortLE(byte[] b, int offset) {
+		return (short)SHORT_LE.get(b, offset);
+	}
+
+
+	/** Write a range of a short[] to a byte array as 2 bytes per value
+	 * @param src the values to write
+	 * @param srcOff the offset of the first value in {@code src} to write
+	 * @param len the number of values to write
+	 * @param dst the byte array to write to, {@code len * 2} bytes are written
+	 * @param dstOff the offset into {@code dst} at which to write the first value
+	 * @param order the byte order to write each value in
+	 */
+	public static void writeShorts(short[] src, int srcOff, int len, byte[] dst, int dstOff, ByteOrder order) {
+		Objects.checkFromIndexSize(srcOff, len, src.length);
+		Objects.checkFromIndexSize(dstOff, len * 2L > Integer.MAX_VALUE ? -1 : len * 2, dst.length);
+		if(order == ByteOrder.LITTLE_ENDIAN) {
+			for(int i = 0; i < len; i++) {
+				SHORT_LE.set(dst, dstOff + i * 2, src[srcOff + i]);
+			}
+		}
+		else {
+			for(int i = 0; i < len; i++) {
+				SHORT_BE.set(dst, dstOff + i * 2, src[srcOff + i]);
+			}
+		}
+	}
+
+
+	/** Read a range of short values from a byte array, 2 bytes per value
+	 * @param src the byte array to read from, {@code len * 2} bytes are read
+	 * @param srcOff the offset into {@code src} at which to read the first value
+	 * @param dst the array to store the values in
+	 * @param dstOff the offset into {@code dst} at which to store the first value
+	 * @param len the number of values to read
+	 * @param order the byte order of the values in {@code src}
+	 */
+	public static void readShorts(byte[] src, int srcOff, short[] dst, int dstOff, int len, ByteOrder order) {
+		Objects.checkFromIndexSize(dstOff, len, dst.length);
+		Objects.checkFromIndexSize(srcOff, len * 2L > Integer.MAX_VALUE ? -1 : len * 2, src.length);
+		if(order == ByteOrder.LITTLE_ENDIAN) {
+			for(int i = 0; i < len; i++) {
+				dst[dstOff + i] = (short)SHORT_LE.get(src, srcOff + i * 2);
+			}
+		}
+		else {
+			for(int i = 0; i < len; i++) {
+				dst[dstOff + i] = (short)SHORT_BE.get(src, srcOff + i * 2);
+			}
+		}
+	}
+
+
+	/** Write a range of a short[] to a {@link ByteBuffer} (heap or direct) at the buffer's position using the buffer's {@link ByteBuffer#order() byte order}.
+	 * The buffer's position is advanced by {@code len * 2}.
+	 * @throws java.nio.BufferOverflowException if the buffer has less than {@code len * 2} bytes remaining
+	 */
+	public static void writeShorts(short[] src, int srcOff, int len, ByteBuffer dst) {
+		dst.asShortBuffer().put(src, srcOff, len);
+		dst.position(dst.position() + len * 2);
+	}
+
+
+	/** Read a range of short values from a {@link ByteBuffer} (heap or direct) at the buffer's position using the buffer's {@link ByteBuffer#order() byte order}.
+	 * The buffer's position is advanced by {@code len * 2}.
+	 * @throws java.nio.BufferUnderflowException if the buffer has less than {@code len * 2} bytes remaining
+	 */
+	public static void readShorts(ByteBuffer src, short[] dst, int dstOff, int len) {
+		src.asShortBuffer().get(dst, dstOff, len);
+		src.position(src.position() + len * 2);
+	}
+
+
+	/** Write a range of a int[] to a byte array as 4 bytes per value
+	 * @param src the values to write
+	 * @param srcOff the offset of the first value in {@code src} to write
+	 * @param len the number of values to write
+	 * @param dst the byte array to write to, {@code len * 4} bytes are written
+	 * @param dstOff the offset into {@code dst} at which to write the first value
+	 * @param order the byte order to write each value in
+	 */
+	public static void writeInts(int[] src, int srcOff, int len, byte[] dst, int dstOff, ByteOrder order) {
+		Objects.checkFromIndexSize(srcOff, len, src.length);
+		Objects.checkFromIndexSize(dstOff, len * 4L > Integer.MAX_VALUE ? -1 : len * 4, dst.length);
+		if(order == ByteOrder.LITTLE_ENDIAN) {
+			for(int i = 0; i < len; i++) {
+				INT_LE.set(dst, dstOff + i * 4, src[srcOff + i]);
+			}
+		}
+		else {
+			for(int i = 0; i < len; i++) {
+				INT_BE.set(dst, dstOff + i * 4, src[srcOff + i]);
+			}
+		}
+	}
+
+
+	/** Read a range of int values from a byte array, 4 bytes per value
+	 * @param src the byte array to read from, {@code len * 4} bytes are read
+	 * @param srcOff the offset into {@code src} at which to read the first value
+	 * @param dst the array to store the values in
+	 * @param dstOff the offset into {@code dst} at which to store the first value
+	 * @param len the number of values to read
+	 * @param order the byte order of the values in {@code src}
+	 */
+	public static void readInts(byte[] src, int srcOff, int[] dst, int dstOff, int len, ByteOrder order) {
+		Objects.checkFromIndexSize(dstOff, len, dst.length);
+		Objects.checkFromIndexSize(srcOff, len * 4L > Integer.MAX_VALUE ? -1 : len * 4, src.length);
+		if(order == ByteOrder.LITTLE_ENDIAN) {
+			for(int i = 0; i < len; i++) {
+				dst[dstOff + i] = (int)INT_LE.get(src, srcOff + i * 4);
+			}
+		}
+		else {
+			for(int i = 0; i < len; i++) {
+				dst[dstOff + i] = (int)INT_BE.get(src, srcOff + i * 4);
+			}
+		}
+	}
+
+
+	/** Write a range of a int[] to a {@link ByteBuffer} (heap or direct) at the buffer's position using the buffer's {@link ByteBuffer#order() byte order}.
+	 * The buffer's position is advanced by {@code len * 4}.
+	 * @throws java.nio.BufferOverflowException if the buffer has less than {@code len * 4} bytes remaining
+	 */
+	public static void writeInts(int[] src, int srcOff, int len, ByteBuffer dst) {
+		dst.asIntBuffer().put(src, srcOff, len);
+		dst.position(dst.position() + len * 4);
+	}
+
+
+	/** Read a range of int values from a {@link ByteBuffer} (heap or direct) at the buffer's position using the buffer's {@link ByteBuffer#order() byte order}.
+	 * The buffer's position is advanced by {@code len * 4}.
+	 * @throws java.nio.BufferUnderflowException if the buffer has less than {@code len * 4} bytes remaining
+	 */
+	public static void readInts(ByteBuffer src, int[] dst, int dstOff, int len) {
+		src.asIntBuffer().get(dst, dstOff, len);
+		src.position(src.position() + len * 4);
+	}
+
+
+	/** Write a range of a long[] to a byte array as 8 bytes per value
+	 * @param src the values to write
+	 * @param srcOff the offset of the first value in {@code src} to write
+	 * @param len the number of values to write
+	 * @param dst the byte array to write to, {@code len * 8} bytes are written
+	 * @param dstOff the offset into {@code dst} at which to write the first value
+	 * @param order the byte order to write each value in
+	 */
+	public static void writeLongs(long[] src, int srcOff, int len, byte[] dst, int dstOff, ByteOrder order) {
+		Objects.checkFromIndexSize(srcOff, len, src.length);
+		Objects.checkFromIndexSize(dstOff, len * 8L > Integer.MAX_VALUE ? -1 : len * 8, dst.length);
+		if(order == ByteOrder.LITTLE_ENDIAN) {
+			for(int i = 0; i < len; i++) {
+				LONG_LE.set(dst, dstOff + i * 8, src[srcOff + i]);
+			}
+		}
+		else {
+			for(int i = 0; i < len; i++) {
+				LONG_BE.set(dst, dstOff + i * 8, src[srcOff + i]);
+			}
+		}
+	}
+
+
+	/** Read a range of long values from a byte array, 8 bytes per value
+	 * @param src the byte array to read from, {@code len * 8} bytes are read
+	 * @param srcOff the offset into {@code src} at which to read the first value
+	 * @param dst the array to store the values in
+	 * @param dstOff the offset into {@code dst} at which to store the first value
+	 * @param len the number of values to read
+	 * @param order the byte order of the values in {@code src}
+	 */
+	public static void readLongs(byte[] src, int srcOff, long[] dst, int dstOff, int len, ByteOrder order) {
+		Objects.checkFromIndexSize(dstOff, len, dst.length);
+		Objects.checkFromIndexSize(srcOff, len * 8L > Integer.MAX_VALUE ? -1 : len * 8, src.length);
+		if(order == ByteOrder.LITTLE_ENDIAN) {
+			for(int i = 0; i < len; i++) {
+				dst[dstOff + i] = (long)LONG_LE.get(src, srcOff + i * 8);
+			}
+		}
+		else {
+			for(int i = 0; i < len; i++) {
+				dst[dstOff + i] = (long)LONG_BE.get(src, srcOff + i * 8);
+			}
+		}
+	}
+
+
+	/** Write a range of a long[] to a {@link ByteBuffer} (heap or direct) at the buffer's position using the buffer's {@link ByteBuffer#order() byte order}.
+	 * The buffer's position is advanced by {@code len * 8}.
+	 * @throws java.nio.BufferOverflowException if the buffer has less than {@code len * 8} bytes remaining
+	 */
+	public static void writeLongs(long[] src, int srcOff, int len, ByteBuffer dst) {
+		dst.asLongBuffer().put(src, srcOff, len);
+		dst.position(dst.position() + len * 8);
+	}
+
+
+	/** Read a range of long values from a {@link ByteBuffer} (heap or direct) at the buffer's position using the buffer's {@link ByteBuffer#order() byte order}.
+	 * The buffer's position is advanced by {@code len * 8}.
+	 * @throws java.nio.BufferUnderflowException if the buffer has less than {@code len * 8} bytes remaining
+	 */
+	public static void readLongs(ByteBuffer src, long[] dst, int dstOff, int len) {
+		src.asLongBuffer().get(dst, dstOff, len);
+		src.position(src.position() + len * 8);
+	}
+
+
+	/** Write a range of a float[] to a byte array as 4 bytes per value
+	 * @param src the values to write
+	 * @param srcOff the offset of the first value in {@code src} to write
+	 * @param len the number of values to write
+	 * @param dst the byte array to write to, {@code len * 4} bytes are written
+	 * @param dstOff the offset into {@code dst} at which to write the first value
+	 * @param order the byte order to write each value in
+	 */
+	public static void writeFloats(float[] src, int srcOff, int len, byte[] dst, int dstOff, ByteOrder order) {
+		Objects.checkFromIndexSize(srcOff, len, src.length);
+		Objects.checkFromIndexSize(dstOff, len * 4L > Integer.MAX_VALUE ? -1 : len * 4, dst.length);
+		if(order == ByteOrder.LITTLE_ENDIAN) {
+			for(int i = 0; i < len; i++) {
+				FLOAT_LE.set(dst, dstOff + i * 4, src[srcOff + i]);
+			}
+		}
+		else {
+			for(int i = 0; i < len; i++) {
+				FLOAT_BE.set(dst, dstOff + i * 4, src[srcOff + i]);
+			}
+		}
+	}
+
+
+	/** Read a range of float values from a byte array, 4 bytes per value
+	 * @param src the byte array to read from, {@code len * 4} bytes are read
+	 * @param srcOff the offset into {@code src} at which to read the first value
+	 * @param dst the array to store the values in
+	 * @param dstOff the offset into {@code dst} at which to store the first value
+	 * @param len the number of values to read
+	 * @param order the byte order of the values in {@code src}
+	 */
+	public static void readFloats(byte[] src, int srcOff, float[] dst, int dstOff, int len, ByteOrder order) {
+		Objects.checkFromIndexSize(dstOff, len, dst.length);
+		Objects.checkFromIndexSize(srcOff, len * 4L > Integer.MAX_VALUE ? -1 : len * 4, src.length);
+		if(order == ByteOrder.LITTLE_ENDIAN) {
+			for(int i = 0; i < len; i++) {
+				dst[dstOff + i] = (float)FLOAT_LE.get(src, srcOff + i * 4);
+			}
+		}
+		else {
+			for(int i = 0; i < len; i++) {
+				dst[dstOff + i] = (float)FLOAT_BE.get(src, srcOff + i * 4);
+			}
+		}
+	}
+
+
+	/** Write a range of a float[] to a {@link ByteBuffer} (heap or direct) at the buffer's position using the buffer's {@link ByteBuffer#order() byte order}.
+	 * The buffer's position is advanced by {@code len * 4}.
+	 * @throws java.nio.BufferOverflowException if the buffer has less than {@code len * 4} bytes remaining
+	 */
+	public static void writeFloats(float[] src, int srcOff, int len, ByteBuffer dst) {
+		dst.asFloatBuffer().put(src, srcOff, len);
+		dst.position(dst.position() + len * 4);
+	}
+
+
+	/** Read a range of float values from a {@link ByteBuffer} (heap or direct) at the buffer's position using the buffer's {@link ByteBuffer#order() byte order}.
+	 * The buffer's position is advanced by {@code len * 4}.
+	 * @throws java.nio.BufferUnderflowException if the buffer has less than {@code len * 4} bytes remaining
+	 */
+	public static void readFloats(ByteBuffer src, float[] dst, int dstOff, int len) {
+		src.asFloatBuffer().get(dst, dstOff, len);
+		src.position(src.position() + len * 4);
+	}
+
+
+	/** Write a range of a double[] to a byte array as 8 bytes per value
+	 * @param src the values to write
+	 * @param srcOff the offset of the first value in {@code src} to write
+	 * @param len the number of values to write
+	 * @param dst the byte array to write to, {@code len * 8} bytes are written
+	 * @param dstOff the offset into {@code dst} at which to write the first value
+	 * @param order the byte order to write each value in
+	 */
+	public static void writeDoubles(double[] src, int srcOff, int len, byte[] dst, int dstOff, ByteOrder order) {
+		Objects.checkFromIndexSize(srcOff, len, src.length);
+		Objects.checkFromIndexSize(dstOff, len * 8L > Integer.MAX_VALUE ? -1 : len * 8, dst.length);
+		if(order == ByteOrder.LITTLE_ENDIAN) {
+			for(int i = 0; i < len; i++) {
+				DOUBLE_LE.set(dst, dstOff + i * 8, src[srcOff + i]);
+			}
+		}
+		else {
+			for(int i = 0; i < len; i++) {
+				DOUBLE_BE.set(dst, dstOff + i * 8, src[srcOff + i]);
+			}
+		}
+	}
+
+
+	/** Read a range of double values from a byte array, 8 bytes per value
+	 * @param src the byte array to read from, {@code len * 8} bytes are read
+	 * @param srcOff the offset into {@code src} at which to read the first value
+	 * @param dst the array to store the values in
+	 * @param dstOff the offset into {@code dst} at which to store the first value
+	 * @param len the number of values to read
+	 * @param order the byte order of the values in {@code src}
+	 */
+	public static void readDoubles(byte[] src, int srcOff, double[] dst, int dstOff, int len, ByteOrder order) {
+		Objects.checkFromIndexSize(dstOff, len, dst.length);
+		Objects.checkFromIndexSize(srcOff, len * 8L > Integer.MAX_VALUE ? -1 : len * 8, src.length);
+		if(order == ByteOrder.LITTLE_ENDIAN) {
+			for(int i = 0; i < len; i++) {
+				dst[dstOff + i] = (double)DOUBLE_LE.get(src, srcOff + i * 8);
+			}
+		}
+		else {
+			for(int i = 0; i < len; i++) {
+				dst[dstOff + i] = (double)DOUBLE_BE.get(src, srcOff + i * 8);
+			}
+		}
+	}
+
+
+	/** Write a range of a double[] to a {@link ByteBuffer} (heap or direct) at the buffer's position using the buffer's {@link ByteBuffer#order() byte order}.
+	 * The buffer's position is advanced by {@code len * 8}.
+	 * @throws java.nio.BufferOverflowException if the buffer has less than {@code len * 8} bytes remaining
+	 */
+	public static void writeDoubles(double[] src, int srcOff, int len, ByteBuffer dst) {
+		dst.asDoubleBuffer().put(src, srcOff, len);
+		dst.position(dst.position() + len * 8);
+	}
+
+
+	/** Read a range of double values from a {@link ByteBuffer} (heap or direct) at the buffer's position using the buffer's {@link ByteBuffer#order() byte order}.
+	 * The buffer's position is advanced by {@code len * 8}.
+	 * @throws java.nio.BufferUnderflowException if the buffer has less than {@code len * 8} bytes remaining
+	 */
+	public static void readDoubles(ByteBuffer src, double[] dst, int dstOff, int len) {
+		src.asDoubleBuffer().get(dst, dstOff, len);
+		src.position(src.position() + len * 8);
+	}
+
 }
@@ -0,0 +1,496 @@
+package twg2.io.files;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SelectableChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/** A binary read cursor over a byte[], a {@link ByteBuffer}, or a {@link ReadableByteChannel}, the read counterpart to {@link BytesWriter}.
+ * Values are decoded with {@link Bytes} (big-endian by default, see {@link #order(ByteOrder)}) and {@link VarBytes} at the current position.<br>
+ * Arrays and heap buffers are read in place. Direct buffers are copied into a reusable internal buffer.
+ * Channels (i.e. a {@link java.nio.channels.FileChannel}) are read into the reusable internal buffer in buffer sized batches as values are read,
+ * only blocking channels are supported (a non-blocking {@link SelectableChannel} is rejected).<br>
+ * Like {@link FileReadUtil}, instances are meant to be reused (see the {@code reset(...)} methods),
+ * once the internal buffer has grown to its working size, reads do not allocate (other than {@link #readString()}).<br>
+ * Reading past the end of the input throws an {@link EOFException}.
+ * Not thread safe.
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+public class BytesReader {
+	// some JVMs reserve header words in arrays
+	private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+	/** the array being read, either a caller's array or {@link #ownBuf} */
+	private byte[] buf;
+	private int pos;
+	private int limit;
+	/** the reusable buffer used to read channels and direct buffers */
+	private byte[] ownBuf;
+	/** a reusable view of {@link #ownBuf} used to read from {@link #channel}, recreated when the buffer grows */
+	private ByteBuffer ownBufView;
+	private int bufferSize;
+	private boolean littleEndian;
+	/** the channel to read more bytes from once the buffer is consumed, null if all the input is in the buffer */
+	private ReadableByteChannel channel;
+	/** the input position of {@code buf[0]} for channel readers, the negative start offset for array readers */
+	private long bufStartPosition;
+
+
+	/** Create a reader with no input, use one of the {@code reset(...)} methods to set the input
+	 */
+	public BytesReader() {
+		this(BytesWriter.DEFAULT_CAPACITY);
+	}
+
+
+	/** Create a reader with no input, use one of the {@code reset(...)} methods to set the input
+	 * @param bufferSize the initial size of the internal buffer used to read channels and direct buffers,
+	 * which is also the typical size of each read from a channel
+	 */
+	public BytesReader(int bufferSize) {
+		if(bufferSize < 1) {
+			throw new IllegalArgumentException("buffer size must be positive: " + bufferSize);
+		}
+		this.bufferSize = bufferSize;
+		this.buf = new byte[0];
+	}
+
+
+	public BytesReader(byte[] src) {
+		this(src, 0, src.length);
+	}
+
+
+	public BytesReader(byte[] src, int off, int len) {
+		this(BytesWriter.DEFAULT_CAPACITY);
+		reset(src, off, len);
+	}
+
+
+	public BytesReader(ByteBuffer src) {
+		this(BytesWriter.DEFAULT_CAPACITY);
+		reset(src);
+	}
+
+
+	public BytesReader(ReadableByteChannel channel, int bufferSize) {
+		this(bufferSize);
+		reset(channel);
+	}
+
+
+	/** Read bytes {@code [off, off + len)} of an array, the array is read in place and must not be modified while it is being read
+	 */
+	public void reset(byte[] src, int off, int len) {
+		if(off < 0 || len < 0 || off + len > src.length) {
+			throw new IndexOutOfBoundsException("off: " + off + ", len: " + len + ", array length: " + src.length);
+		}
+		this.buf = src;
+		this.pos = off;
+		this.limit = off + len;
+		this.channel = null;
+		this.bufStartPosition = -off;
+	}
+
+
+	/** Read the bytes from a buffer's position to its limit, heap buffers are read in place, direct buffers are copied into the internal buffer.
+	 * The buffer's position is not modified.
+	 */
+	public void reset(ByteBuffer src) {
+		if(src.hasArray()) {
+			int off = src.arrayOffset() + src.position();
+			reset(src.array(), off, src.remaining());
+		}
+		else {
+			int len = src.remaining();
+			byte[] dst = ownBuffer(len);
+			src.duplicate().get(dst, 0, len);
+			reset(dst, 0, len);
+		}
+	}
+
+
+	/** Read from a channel, the channel is read in batches of (up to) the internal buffer's size as values are read.
+	 * The caller is responsible for closing the channel.
+	 * @throws IllegalArgumentException if the channel is a {@link SelectableChannel} in non-blocking mode
+	 */
+	public void reset(ReadableByteChannel channel) {
+		// a read from a non-blocking channel can return 0 without making progress, which would make fill() spin
+		if(channel instanceof SelectableChannel && !((SelectableChannel)channel).isBlocking()) {
+			throw new IllegalArgumentException("channel must be in blocking mode");
+		}
+		this.buf = ownBuffer(bufferSize);
+		this.pos = 0;
+		this.limit = 0;
+		this.channel = channel;
+		this.bufStartPosition = 0;
+	}
+
+
+	/**
+	 * @return the byte order used to read multi-byte values, {@link ByteOrder#BIG_ENDIAN} by default
+	 */
+	public ByteOrder order() {
+		return littleEndian ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN;
+	}
+
+
+	/** Set the byte order used to read multi-byte values
+	 * @return this reader
+	 */
+	public BytesReader order(ByteOrder order) {
+		this.littleEndian = (order == ByteOrder.LITTLE_ENDIAN);
+		return this;
+	}
+
+
+	/**
+	 * @return the number of bytes read since the last reset
+	 */
+	public long position() {
+		return bufStartPosition + pos;
+	}
+
+
+	/**
+	 * @return the number of bytes available without reading more from the channel (if any)
+	 */
+	public int buffered() {
+		return limit - pos;
+	}
+
+
+	/**
+	 * @return true if there is at least one more byte to read, reads more from the channel (if any) if the buffer is empty
+	 */
+	public boolean hasRemaining() throws IOException {
+		return fill(1) >= 1;
+	}
+
+
+	public byte readByte() throws IOException {
+		require(1);
+		return buf[pos++];
+	}
+
+
+	public boolean readBoolean() throws IOException {
+		require(1);
+		return Bytes.readBoolean(buf, pos++);
+	}
+
+
+	public short readShort() throws IOException {
+		require(2);
+		short res = littleEndian ? Bytes.readShortLE(buf, pos) : Bytes.readShort(buf, pos);
+		pos += 2;
+		return res;
+	}
+
+
+	public int readInt() throws IOException {
+		require(4);
+		int res = littleEndian ? Bytes.readIntLE(buf, pos) : Bytes.readInt(buf, pos);
+		pos += 4;
+		return res;
+	}
+
+
+	public long readLong() throws IOException {
+		require(8);
+		long res = littleEndian ? Bytes.readLongLE(buf, pos) : Bytes.readLong(buf, pos);
+		pos += 8;
+		return res;
+	}
+
+
+	public float readFloat() throws IOException {
+		require(4);
+		float res = littleEndian ? Bytes.readFloatLE(buf, pos) : Bytes.readFloat(buf, pos);
+		pos += 4;
+		return res;
+	}
+
+
+	public double readDouble() throws IOException {
+		require(8);
+		double res = littleEndian ? Bytes.readDoubleLE(buf, pos) : Bytes.readDouble(buf, pos);
+		pos += 8;
+		return res;
+	}
+
+
+	/** Read an unsigned varint
+	 * @see VarBytes#readVarInt(byte[], int)
+	 */
+	public int readVarInt() throws IOException {
+		if(fill(VarBytes.MAX_VAR_INT_SIZE) >= VarBytes.MAX_VAR_INT_SIZE) {
+			// decode in place, advancing by the bytes actually read since non-minimal encodings are longer than varIntSize() of their value
+			byte[] b = buf;
+			int p = pos;
+			int res = 0;
+			for(int shift = 0; shift < 35; shift += 7) {
+				int v = b[p++];
+				if(v >= 0) {
+					pos = p;
+					return res | (v << shift);
+				}
+				res |= (v & 0x7F) << shift;
+			}
+			pos = p;
+			throw new IllegalArgumentException("malformed varint ending at position " + position() + ", longer than " + VarBytes.MAX_VAR_INT_SIZE + " bytes");
+		}
+		// near the end of the input, read one byte at a time so a truncated varint is reported as EOF
+		int res = 0;
+		for(int shift = 0; shift < 35; shift += 7) {
+			int v = readByte();
+			if(v >= 0) {
+				return res | (v << shift);
+			}
+			res |= (v & 0x7F) << shift;
+		}
+		throw new IllegalArgumentException("malformed varint ending at position " + position() + ", longer than " + VarBytes.MAX_VAR_INT_SIZE + " bytes");
+	}
+
+
+	/** Read an unsigned varint
+	 * @see VarBytes#readVarLong(byte[], int)
+	 */
+	public long readVarLong() throws IOException {
+		if(fill(VarBytes.MAX_VAR_LONG_SIZE) >= VarBytes.MAX_VAR_LONG_SIZE) {
+			byte[] b = buf;
+			int p = pos;
+			long res = 0;
+			for(int shift = 0; shift < 70; shift += 7) {
+				long v = b[p++];
+				if(v >= 0) {
+					pos = p;
+					return res | (v << shift);
+				}
+				res |= (v & 0x7F) << shift;
+			}
+			pos = p;
+			throw new IllegalArgumentException("malformed varint ending at position " + position() + ", longer than " + VarBytes.MAX_VAR_LONG_SIZE + " bytes");
+		}
+		long res = 0;
+		for(int shift = 0; shift < 70; shift += 7) {
+			long v = readByte();
+			if(v >= 0) {
+				return res | (v << shift);
+			}
+			res |= (v & 0x7F) << shift;
+		}
+		throw new IllegalArgumentException("malformed varint ending at position " + position() + ", longer than " + VarBytes.MAX_VAR_LONG_SIZE + " bytes");
+	}
+
+
+	/** Read a zigzag encoded varint
+	 * @see VarBytes#readSignedVarInt(byte[], int)
+	 */
+	public int readSignedVarInt() throws IOException {
+		return VarBytes.decodeZigZag(readVarInt());
+	}
+
+
+	/** Read a zigzag encoded varint
+	 * @see VarBytes#readSignedVarLong(byte[], int)
+	 */
+	public long readSignedVarLong() throws IOException {
+		return VarBytes.decodeZigZag(readVarLong());
+	}
+
+
+	/** Read a varint length prefixed UTF-8 string
+	 * @see BytesWriter#writeString(CharSequence)
+	 */
+	public String readString() throws IOException {
+		int len = readVarInt();
+		require(len);
+		String res = new String(buf, pos, len, StandardCharsets.UTF_8);
+		pos += len;
+		return res;
+	}
+
+
+	/** Read a varint length prefixed UTF-8 string into a caller supplied char array, malformed UTF-8 sequences are decoded as U+FFFD
+	 * @param dst the char array to decode the string into, must have room for at least as many chars as the string's UTF-8 byte length
+	 * @param dstOff the offset into {@code dst} at which to store the first char
+	 * @return the number of chars decoded into {@code dst}
+	 */
+	public int readChars(char[] dst, int dstOff) throws IOException {
+		int len = readVarInt();
+		require(len);
+		int end = VarBytes.decodeUtf8(buf, pos, pos + len, dst, dstOff);
+		pos += len;
+		return end - dstOff;
+	}
+
+
+	public void readBytes(byte[] dst) throws IOException {
+		readBytes(dst, 0, dst.length);
+	}
+
+
+	public void readBytes(byte[] dst, int off, int len) throws IOException {
+		while(len > 0) {
+			int cnt = available(1, len);
+			System.arraycopy(buf, pos, dst, off, cnt);
+			pos += cnt;
+			off += cnt;
+			len -= cnt;
+		}
+	}
+
+
+	/** Skip {@code len} bytes
+	 */
+	public void skip(long len) throws IOException {
+		while(len > 0) {
+			int cnt = available(1, (int)Math.min(len, Integer.MAX_VALUE));
+			pos += cnt;
+			len -= cnt;
+		}
+	}
+
+
+	/** @see Bytes#readShorts(byte[], int, short[], int, int, ByteOrder) */
+	public void readShorts(short[] dst, int off, int len) throws IOException {
+		while(len > 0) {
+			int cnt = available(2, len);
+			Bytes.readShorts(buf, pos, dst, off, cnt, order());
+			pos += cnt * 2;
+			off += cnt;
+			len -= cnt;
+		}
+	}
+
+
+	/** @see Bytes#readInts(byte[], int, int[], int, int, ByteOrder) */
+	public void readInts(int[] dst, int off, int len) throws IOException {
+		while(len > 0) {
+			int cnt = available(4, len);
+			Bytes.readInts(buf, pos, dst, off, cnt, order());
+			pos += cnt * 4;
+			off += cnt;
+			len -= cnt;
+		}
+	}
+
+
+	/** @see Bytes#readLongs(byte[], int, long[], int, int, ByteOrder) */
+	public void readLongs(long[] dst, int off, int len) throws IOException {
+		while(len > 0) {
+			int cnt = available(8, len);
+			Bytes.readLongs(buf, pos, dst, off, cnt, order());
+			pos += cnt * 8;
+			off += cnt;
+			len -= cnt;
+		}
+	}
+
+
+	/** @see Bytes#readFloats(byte[], int, float[], int, int, ByteOrder) */
+	public void readFloats(float[] dst, int off, int len) throws IOException {
+		while(len > 0) {
+			int cnt = available(4, len);
+			Bytes.readFloats(buf, pos, dst, off, cnt, order());
+			pos += cnt * 4;
+			off += cnt;
+			len -= cnt;
+		}
+	}
+
+
+	/** @see Bytes#readDoubles(byte[], int, double[], int, int, ByteOrder) */
+	public void readDoubles(double[] dst, int off, int len) throws IOException {
+		while(len > 0) {
+			int cnt = available(8, len);
+			Bytes.readDoubles(buf, pos, dst, off, cnt, order());
+			pos += cnt * 8;
+			off += cnt;
+			len -= cnt;
+		}
+	}
+
+
+	@Override
+	public String toString() {
+		return "BytesReader: { position: " + position() + ", buffered: " + (limit - pos) + ", channel: " + (channel != null) + " }";
+	}
+
+
+	/** Make between 1 and {@code count} values of {@code size} bytes each available in the buffer,
+	 * all {@code count} values for an in-memory reader, as many as fit in the buffer for a channel reader
+	 * @return the number of values available
+	 */
+	private int available(int size, int count) throws IOException {
+		int avail = limit - pos;
+		if((long)size * count <= avail) {
+			return count;
+		}
+		if(channel == null) {
+			throw new EOFException("read of " + ((long)size * count) + " bytes at position " + position() + ", only " + avail + " bytes remaining");
+		}
+		require(size);
+		return Math.min(count, (limit - pos) / size);
+	}
+
+
+	/** Ensure at least {@code size} bytes are available in the buffer
+	 * @throws EOFException if the input ends first
+	 */
+	private void require(int size) throws IOException {
+		if(limit - pos < size && fill(size) < size) {
+			throw new EOFException("read of " + size + " bytes at position " + position() + ", only " + (limit - pos) + " bytes remaining");
+		}
+	}
+
+
+	/** Try to make {@code size} bytes available in the buffer by reading from the channel (if any),
+	 * unread bytes are moved to the start of the buffer and the buffer grows if it is smaller than {@code size}
+	 * @return the number of bytes available, less than {@code size} only at the end of the input
+	 */
+	private int fill(int size) throws IOException {
+		int avail = limit - pos;
+		if(avail >= size || channel == null) {
+			return avail;
+		}
+		if(buf.length - pos < size) {
+			byte[] dst = buf.length < size ? new byte[Math.max(size, (int)Math.min(MAX_ARRAY_SIZE, buf.length * 2L))] : buf;
+			System.arraycopy(buf, pos, dst, 0, avail);
+			bufStartPosition += pos;
+			buf = ownBuf = dst;
+			pos = 0;
+			limit = avail;
+		}
+		ByteBuffer view = ownBufView;
+		if(view == null || view.array() != buf) {
+			view = ownBufView = ByteBuffer.wrap(buf);
+		}
+		view.limit(buf.length).position(limit);
+		while(limit - pos < size) {
+			int cnt = channel.read(view);
+			if(cnt < 0) {
+				break;
+			}
+			limit += cnt;
+		}
+		return limit - pos;
+	}
+
+
+	/** Get the internal buffer, growing it to at least {@code size} bytes
+	 */
+	private byte[] ownBuffer(int size) {
+		if(ownBuf == null || ownBuf.length < size) {
+			ownBuf = new byte[Math.max(size, ownBuf != null ? (int)Math.min(MAX_ARRAY_SIZE, ownBuf.length * 2L) : 0)];
+		}
+		return ownBuf;
+	}
+
+}
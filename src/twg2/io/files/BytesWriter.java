@@ -0,0 +1,429 @@
+package twg2.io.files;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+
+/** A binary write cursor over a reusable, growable byte[], the write counterpart to {@link BytesReader}.
+ * Values are encoded with {@link Bytes} (big-endian by default, see {@link #order(ByteOrder)}) and {@link VarBytes} at the current position,
+ * the buffer grows geometrically when full.<br>
+ * If a {@link WritableByteChannel} (i.e. a {@link java.nio.channels.FileChannel}) is given, the buffer is written to the channel in
+ * buffer sized batches when it fills up instead of growing (the buffer only grows to fit a single value larger than the buffer),
+ * only blocking channels are supported (a non-blocking {@link SelectableChannel} is rejected).<br>
+ * Like {@link FileReadUtil}, instances are meant to be reused (see {@link #reset()} and {@link #reset(WritableByteChannel)}),
+ * once the buffer has grown to its working size, writes do not allocate.
+ * Not thread safe.
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+public class BytesWriter implements Flushable {
+	/** the default buffer size */
+	public static final int DEFAULT_CAPACITY = 8192;
+	// some JVMs reserve header words in arrays
+	private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+	private byte[] buf;
+	/** a reusable view of {@link #buf} used to write to {@link #channel}, recreated when the buffer grows */
+	private ByteBuffer bufView;
+	private int pos;
+	private boolean littleEndian;
+	/** the channel which buffered bytes are flushed to, null to buffer all bytes in memory */
+	private WritableByteChannel channel;
+	/** the number of bytes flushed to the channel since the last reset */
+	private long flushedBytes;
+
+
+	/** Create an in-memory writer with a {@link #DEFAULT_CAPACITY} initial buffer
+	 */
+	public BytesWriter() {
+		this(DEFAULT_CAPACITY);
+	}
+
+
+	/** Create an in-memory writer
+	 * @param initialCapacity the initial buffer size
+	 */
+	public BytesWriter(int initialCapacity) {
+		this(null, initialCapacity);
+	}
+
+
+	/** Create a writer which flushes to a channel each time the buffer fills up
+	 * @param channel the channel to flush bytes to, null to buffer all bytes in memory
+	 * @param bufferSize the buffer size, which is also the typical size of each write to the channel
+	 * @throws IllegalArgumentException if the channel is a {@link SelectableChannel} in non-blocking mode
+	 */
+	public BytesWriter(WritableByteChannel channel, int bufferSize) {
+		if(bufferSize < 1) {
+			throw new IllegalArgumentException("buffer size must be positive: " + bufferSize);
+		}
+		this.buf = new byte[bufferSize];
+		this.channel = requireBlocking(channel);
+	}
+
+
+	/**
+	 * @return the byte order used to write multi-byte values, {@link ByteOrder#BIG_ENDIAN} by default
+	 */
+	public ByteOrder order() {
+		return littleEndian ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN;
+	}
+
+
+	/** Set the byte order used to write multi-byte values
+	 * @return this writer
+	 */
+	public BytesWriter order(ByteOrder order) {
+		this.littleEndian = (order == ByteOrder.LITTLE_ENDIAN);
+		return this;
+	}
+
+
+	/**
+	 * @return the channel buffered bytes are flushed to, null if this is an in-memory writer
+	 */
+	public WritableByteChannel getChannel() {
+		return channel;
+	}
+
+
+	/**
+	 * @return the total number of bytes written since the last reset, including bytes already flushed to the channel
+	 */
+	public long position() {
+		return flushedBytes + pos;
+	}
+
+
+	/**
+	 * @return the number of bytes currently buffered (not yet flushed)
+	 */
+	public int size() {
+		return pos;
+	}
+
+
+	/**
+	 * @return the current buffer size
+	 */
+	public int capacity() {
+		return buf.length;
+	}
+
+
+	/**
+	 * @return the internal buffer, bytes {@code [0, size())} are the buffered bytes. The array is only valid until the next write or reset
+	 */
+	public byte[] array() {
+		return buf;
+	}
+
+
+	/**
+	 * @return a copy of the buffered bytes
+	 */
+	public byte[] toByteArray() {
+		return Arrays.copyOf(buf, pos);
+	}
+
+
+	/** Discard any buffered bytes and reset the position to 0, the buffer and channel are kept for reuse
+	 */
+	public void reset() {
+		this.pos = 0;
+		this.flushedBytes = 0;
+	}
+
+
+	/** Discard any buffered bytes, reset the position to 0, and switch to a new channel, the buffer is kept for reuse.
+	 * Call {@link #flush()} first to write the buffered bytes to the previous channel.
+	 * @param channel the channel to flush bytes to, null to buffer all bytes in memory
+	 * @throws IllegalArgumentException if the channel is a {@link SelectableChannel} in non-blocking mode
+	 */
+	public void reset(WritableByteChannel channel) {
+		reset();
+		this.channel = requireBlocking(channel);
+	}
+
+
+	/** A write to a non-blocking channel can return 0 without making progress, which would make {@link #flush()} spin
+	 */
+	private static WritableByteChannel requireBlocking(WritableByteChannel channel) {
+		if(channel instanceof SelectableChannel && !((SelectableChannel)channel).isBlocking()) {
+			throw new IllegalArgumentException("channel must be in blocking mode");
+		}
+		return channel;
+	}
+
+
+	/** Write all buffered bytes to the channel and empty the buffer, does nothing if this is an in-memory writer
+	 */
+	@Override
+	public void flush() throws IOException {
+		if(channel == null || pos == 0) {
+			return;
+		}
+		ByteBuffer view = bufView;
+		if(view == null || view.array() != buf) {
+			view = bufView = ByteBuffer.wrap(buf);
+		}
+		view.clear().limit(pos);
+		while(view.hasRemaining()) {
+			channel.write(view);
+		}
+		flushedBytes += pos;
+		pos = 0;
+	}
+
+
+	public BytesWriter writeByte(byte value) throws IOException {
+		ensure(1);
+		buf[pos++] = value;
+		return this;
+	}
+
+
+	public BytesWriter writeBoolean(boolean value) throws IOException {
+		ensure(1);
+		Bytes.writeBoolean(value, buf, pos);
+		pos += 1;
+		return this;
+	}
+
+
+	public BytesWriter writeShort(short value) throws IOException {
+		ensure(2);
+		if(littleEndian) { Bytes.writeShortLE(value, buf, pos); } else { Bytes.writeShort(value, buf, pos); }
+		pos += 2;
+		return this;
+	}
+
+
+	public BytesWriter writeInt(int value) throws IOException {
+		ensure(4);
+		if(littleEndian) { Bytes.writeIntLE(value, buf, pos); } else { Bytes.writeInt(value, buf, pos); }
+		pos += 4;
+		return this;
+	}
+
+
+	public BytesWriter writeLong(long value) throws IOException {
+		ensure(8);
+		if(littleEndian) { Bytes.writeLongLE(value, buf, pos); } else { Bytes.writeLong(value, buf, pos); }
+		pos += 8;
+		return this;
+	}
+
+
+	public BytesWriter writeFloat(float value) throws IOException {
+		ensure(4);
+		if(littleEndian) { Bytes.writeFloatLE(value, buf, pos); } else { Bytes.writeFloat(value, buf, pos); }
+		pos += 4;
+		return this;
+	}
+
+
+	public BytesWriter writeDouble(double value) throws IOException {
+		ensure(8);
+		if(littleEndian) { Bytes.writeDoubleLE(value, buf, pos); } else { Bytes.writeDouble(value, buf, pos); }
+		pos += 8;
+		return this;
+	}
+
+
+	/** Write an unsigned varint
+	 * @see VarBytes#writeVarInt(int, byte[], int)
+	 */
+	public BytesWriter writeVarInt(int value) throws IOException {
+		ensure(VarBytes.MAX_VAR_INT_SIZE);
+		pos += VarBytes.writeVarInt(value, buf, pos);
+		return this;
+	}
+
+
+	/** Write an unsigned varint
+	 * @see VarBytes#writeVarLong(long, byte[], int)
+	 */
+	public BytesWriter writeVarLong(long value) throws IOException {
+		ensure(VarBytes.MAX_VAR_LONG_SIZE);
+		pos += VarBytes.writeVarLong(value, buf, pos);
+		return this;
+	}
+
+
+	/** Write a zigzag encoded varint
+	 * @see VarBytes#writeSignedVarInt(int, byte[], int)
+	 */
+	public BytesWriter writeSignedVarInt(int value) throws IOException {
+		return writeVarInt(VarBytes.encodeZigZag(value));
+	}
+
+
+	/** Write a zigzag encoded varint
+	 * @see VarBytes#writeSignedVarLong(long, byte[], int)
+	 */
+	public BytesWriter writeSignedVarLong(long value) throws IOException {
+		return writeVarLong(VarBytes.encodeZigZag(value));
+	}
+
+
+	/** Write a varint length prefixed UTF-8 string, the string is encoded directly into the buffer
+	 * @see VarBytes#writeString(CharSequence, byte[], int)
+	 */
+	public BytesWriter writeString(CharSequence str) throws IOException {
+		int len = VarBytes.utf8Length(str);
+		writeVarInt(len);
+		ensure(len);
+		pos = VarBytes.encodeUtf8(str, buf, pos);
+		return this;
+	}
+
+
+	public BytesWriter writeBytes(byte[] src) throws IOException {
+		return writeBytes(src, 0, src.length);
+	}
+
+
+	public BytesWriter writeBytes(byte[] src, int off, int len) throws IOException {
+		while(len > 0) {
+			int cnt = reserve(1, len);
+			System.arraycopy(src, off, buf, pos, cnt);
+			pos += cnt;
+			off += cnt;
+			len -= cnt;
+		}
+		return this;
+	}
+
+
+	/** Write bytes from a buffer's position to its limit and advance the buffer's position to its limit
+	 */
+	public BytesWriter writeBytes(ByteBuffer src) throws IOException {
+		int len = src.remaining();
+		while(len > 0) {
+			int cnt = reserve(1, len);
+			src.get(buf, pos, cnt);
+			pos += cnt;
+			len -= cnt;
+		}
+		return this;
+	}
+
+
+	/** @see Bytes#writeShorts(short[], int, int, byte[], int, ByteOrder) */
+	public BytesWriter writeShorts(short[] src, int off, int len) throws IOException {
+		while(len > 0) {
+			int cnt = reserve(2, len);
+			Bytes.writeShorts(src, off, cnt, buf, pos, order());
+			pos += cnt * 2;
+			off += cnt;
+			len -= cnt;
+		}
+		return this;
+	}
+
+
+	/** @see Bytes#writeInts(int[], int, int, byte[], int, ByteOrder) */
+	public BytesWriter writeInts(int[] src, int off, int len) throws IOException {
+		while(len > 0) {
+			int cnt = reserve(4, len);
+			Bytes.writeInts(src, off, cnt, buf, pos, order());
+			pos += cnt * 4;
+			off += cnt;
+			len -= cnt;
+		}
+		return this;
+	}
+
+
+	/** @see Bytes#writeLongs(long[], int, int, byte[], int, ByteOrder) */
+	public BytesWriter writeLongs(long[] src, int off, int len) throws IOException {
+		while(len > 0) {
+			int cnt = reserve(8, len);
+			Bytes.writeLongs(src, off, cnt, buf, pos, order());
+			pos += cnt * 8;
+			off += cnt;
+			len -= cnt;
+		}
+		return this;
+	}
+
+
+	/** @see Bytes#writeFloats(float[], int, int, byte[], int, ByteOrder) */
+	public BytesWriter writeFloats(float[] src, int off, int len) throws IOException {
+		while(len > 0) {
+			int cnt = reserve(4, len);
+			Bytes.writeFloats(src, off, cnt, buf, pos, order());
+			pos += cnt * 4;
+			off += cnt;
+			len -= cnt;
+		}
+		return this;
+	}
+
+
+	/** @see Bytes#writeDoubles(double[], int, int, byte[], int, ByteOrder) */
+	public BytesWriter writeDoubles(double[] src, int off, int len) throws IOException {
+		while(len > 0) {
+			int cnt = reserve(8, len);
+			Bytes.writeDoubles(src, off, cnt, buf, pos, order());
+			pos += cnt * 8;
+			off += cnt;
+			len -= cnt;
+		}
+		return this;
+	}
+
+
+	@Override
+	public String toString() {
+		return "BytesWriter: { position: " + position() + ", buffered: " + pos + ", capacity: " + buf.length + ", channel: " + (channel != null) + " }";
+	}
+
+
+	/** Make room for between 1 and {@code count} values of {@code size} bytes each,
+	 * an in-memory writer always makes room for all {@code count} values, a channel writer makes room for as many as fit in the buffer
+	 * @return the number of values there is room for
+	 */
+	private int reserve(int size, int count) throws IOException {
+		long total = (long)size * count;
+		int room = buf.length - pos;
+		if(total <= room) {
+			return count;
+		}
+		if(channel == null) {
+			if(total > MAX_ARRAY_SIZE - pos) {
+				throw new IOException("write of " + total + " bytes exceeds max buffer size");
+			}
+			ensure((int)total);
+			return count;
+		}
+		ensure(size);
+		return Math.min(count, (buf.length - pos) / size);
+	}
+
+
+	/** Ensure the buffer has room for {@code size} more bytes, first flushing to the channel (if any) and then growing the buffer
+	 */
+	private void ensure(int size) throws IOException {
+		if(buf.length - pos >= size) {
+			return;
+		}
+		if(channel != null) {
+			flush();
+			if(buf.length >= size) {
+				return;
+			}
+		}
+		int newSize = (int)Math.min(MAX_ARRAY_SIZE, Math.max((long)buf.length * 2, (long)pos + size));
+		if(newSize - pos < size) {
+			throw new IOException("write of " + size + " bytes exceeds max buffer size");
+		}
+		buf = Arrays.copyOf(buf, newSize);
+	}
+
+}
@@ -0,0 +1,95 @@
+package twg2.io.files;
+
+/** A reusable, mutable {@link CharSequence} view over a range of a char[].
+ * No chars are copied, changes to the underlying array are visible through the view.
+ * NOTE: not thread safe, the view can be re-pointed at a different array/range using {@link #set(char[], int, int)}
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+public final class CharArrayView implements CharSequence {
+	private static final char[] EMPTY = new char[0];
+
+	private char[] array;
+	private int offset;
+	private int length;
+
+
+	/** Create an empty view
+	 */
+	public CharArrayView() {
+		this.array = EMPTY;
+	}
+
+
+	/** Create a view of a range of a char[]
+	 * @see #set(char[], int, int)
+	 */
+	public CharArrayView(char[] array, int offset, int length) {
+		set(array, offset, length);
+	}
+
+
+	/** Point this view at a new array range
+	 * @param array the array to view
+	 * @param offset the offset of the first char in the view
+	 * @param length the number of chars in the view
+	 * @return this view
+	 */
+	public CharArrayView set(char[] array, int offset, int length) {
+		if(offset < 0 || length < 0 || offset + length > array.length) {
+			throw new IndexOutOfBoundsException("offset " + offset + ", length " + length + ", array length " + array.length);
+		}
+		this.array = array;
+		this.offset = offset;
+		this.length = length;
+		return this;
+	}
+
+
+	/**
+	 * @return the underlying array, this view's chars are the range {@code [offset(), offset() + length())}
+	 */
+	public char[] array() {
+		return array;
+	}
+
+
+	public int offset() {
+		return offset;
+	}
+
+
+	@Override
+	public int length() {
+		return length;
+	}
+
+
+	@Override
+	public char charAt(int index) {
+		if(index < 0 || index >= length) {
+			throw new IndexOutOfBoundsException("index " + index + ", length " + length);
+		}
+		return array[offset + index];
+	}
+
+
+	/** Returns a new view (sharing this view's array) of a sub-range of this view
+	 */
+	@Override
+	public CharArrayView subSequence(int start, int end) {
+		if(start < 0 || end > length || start > end) {
+			throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + length);
+		}
+		return new CharArrayView(array, offset + start, end - start);
+	}
+
+
+	/** Copy this view's chars into a new String
+	 */
+	@Override
+	public String toString() {
+		return new String(array, offset, length);
+	}
+
+}
@@ -0,0 +1,288 @@
+package twg2.io.files;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+
+/** A thread safe, read-through cache of file contents in front of {@link FileReadUtil}.
+ * Entries are keyed by path and validated against the file's size, last modified time, and {@link BasicFileAttributes#fileKey() file key}
+ * on every read, so a read of an unchanged file costs one attribute lookup and skips reading and decoding the file entirely.
+ * The least recently used entries are evicted once the cached contents exceed {@link #getMaxCachedBytes()}.
+ * Cache misses are read through a {@link FileReadPool}, so the read buffers retained between misses are bounded by its {@link BufferPool} rather than growing per thread.
+ * Files are read outside the cache's lock, so misses on different files don't wait for each other,
+ * but concurrent misses on the same file may both read it (the last read is cached).
+ * Files are not watched, a file rewritten within the file system's last modified time granularity without changing size
+ * (or file key) can be returned stale.
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+public class FileContentCache {
+	private final long maxCachedBytes;
+	private final Charset charset;
+	private final FileReadPool reader;
+	/** access ordered, guarded by 'this' */
+	private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+	// ==== stats, guarded by 'this' ====
+	private long cachedBytes;
+	private long hitCount;
+	private long missCount;
+	private long evictionCount;
+
+
+	/** Create a file content cache which decodes text using the 'UTF-8' charset
+	 * @param maxCachedBytes the maximum number of bytes of file contents to cache (cached Strings count as 2 bytes per char)
+	 */
+	public FileContentCache(long maxCachedBytes) {
+		this(maxCachedBytes, null);
+	}
+
+
+	/** Create a file content cache which reads files using a new default {@link BufferPool}
+	 * @param maxCachedBytes the maximum number of bytes of file contents to cache (cached Strings count as 2 bytes per char)
+	 * @param charset the charset to use for text decoding, if null 'UTF-8' is used
+	 */
+	public FileContentCache(long maxCachedBytes, Charset charset) {
+		this(maxCachedBytes, charset, new BufferPool());
+	}
+
+
+	/** Create a file content cache
+	 * @param maxCachedBytes the maximum number of bytes of file contents to cache (cached Strings count as 2 bytes per char)
+	 * @param charset the charset to use for text decoding, if null 'UTF-8' is used
+	 * @param pool the buffer pool to lease read buffers from when reading files which are not cached, may be shared with other components
+	 */
+	public FileContentCache(long maxCachedBytes, Charset charset, BufferPool pool) {
+		if(maxCachedBytes < 0) {
+			throw new IllegalArgumentException("maxCachedBytes must not be negative");
+		}
+		Charset cs = charset != null ? charset : Charset.forName("UTF-8");
+		this.maxCachedBytes = maxCachedBytes;
+		this.charset = cs;
+		this.reader = new FileReadPool(pool, cs);
+	}
+
+
+	public long getMaxCachedBytes() {
+		return maxCachedBytes;
+	}
+
+
+	public Charset getCharset() {
+		return charset;
+	}
+
+
+	/** Read a file's bytes from the cache, or from disk if the file is not cached or has changed since it was cached
+	 * @param path the file to read
+	 * @return a new copy of the file's contents
+	 * @throws IOException if there is an error reading the file's attributes or contents
+	 */
+	public byte[] readBytes(Path path) throws IOException {
+		return ((byte[])read(path, false)).clone();
+	}
+
+
+	/** Read a file's text from the cache, or from disk and decode it if the file is not cached or has changed since it was cached
+	 * @param path the file to read
+	 * @return the file's contents
+	 * @throws IOException if there is an error reading the file's attributes or contents
+	 */
+	public String readString(Path path) throws IOException {
+		return (String)read(path, true);
+	}
+
+
+	/** Remove a file's cached contents
+	 */
+	public synchronized void invalidate(Path path) {
+		Path absPath = path.toAbsolutePath().normalize();
+		remove(new Key(absPath, false));
+		remove(new Key(absPath, true));
+	}
+
+
+	/** Remove all cached file contents
+	 */
+	public synchronized void clear() {
+		entries.clear();
+		cachedBytes = 0;
+	}
+
+
+	/**
+	 * @return the number of bytes of file contents currently cached (cached Strings count as 2 bytes per char)
+	 */
+	public synchronized long getCachedBytes() {
+		return cachedBytes;
+	}
+
+
+	public synchronized int getCachedFileCount() {
+		return entries.size();
+	}
+
+
+	/**
+	 * @return the number of reads returned from the cache without reading the file
+	 */
+	public synchronized long getHitCount() {
+		return hitCount;
+	}
+
+
+	/**
+	 * @return the number of reads which read the file because it was not cached or had changed
+	 */
+	public synchronized long getMissCount() {
+		return missCount;
+	}
+
+
+	/**
+	 * @return the number of entries removed to stay within {@link #getMaxCachedBytes()}
+	 */
+	public synchronized long getEvictionCount() {
+		return evictionCount;
+	}
+
+
+	@Override
+	public synchronized String toString() {
+		return "FileContentCache: { files: " + entries.size() + ", cachedBytes: " + cachedBytes + ", maxCachedBytes: " + maxCachedBytes +
+				", hits: " + hitCount + ", misses: " + missCount + ", evictions: " + evictionCount + " }";
+	}
+
+
+	/** Return a cached entry if the file's attributes still match it, otherwise read the file (outside the cache lock) and cache the result
+	 * @param path the file to read
+	 * @param text true to read and decode a String, false to read a byte[]
+	 */
+	protected Object read(Path path, boolean text) throws IOException {
+		Path absPath = path.toAbsolutePath().normalize();
+		BasicFileAttributes attrs = Files.readAttributes(absPath, BasicFileAttributes.class);
+		Key key = new Key(absPath, text);
+
+		synchronized(this) {
+			Entry entry = entries.get(key);
+			if(entry != null && entry.matches(attrs)) {
+				hitCount++;
+				return entry.value;
+			}
+			missCount++;
+		}
+
+		Object value;
+		long weight;
+		if(text) {
+			String str = reader.readString(absPath);
+			value = str;
+			weight = 2L * str.length();
+		}
+		else {
+			byte[] bytes = reader.readBytes(absPath);
+			value = bytes;
+			weight = bytes.length;
+		}
+
+		synchronized(this) {
+			remove(key);
+			if(weight <= maxCachedBytes) {
+				entries.put(key, new Entry(attrs, value, weight));
+				cachedBytes += weight;
+				evict();
+			}
+		}
+		return value;
+	}
+
+
+	/** Remove least recently used entries until the cached contents are within {@link #maxCachedBytes}, the caller must hold this cache's lock
+	 */
+	private void evict() {
+		Iterator<Entry> iter = entries.values().iterator();
+		while(cachedBytes > maxCachedBytes && iter.hasNext()) {
+			Entry entry = iter.next();
+			iter.remove();
+			cachedBytes -= entry.weight;
+			evictionCount++;
+		}
+	}
+
+
+	/** Remove an entry, the caller must hold this cache's lock
+	 */
+	private void remove(Key key) {
+		Entry entry = entries.remove(key);
+		if(entry != null) {
+			cachedBytes -= entry.weight;
+		}
+	}
+
+
+
+
+	/** A cache key, a normalized absolute path and the type of content cached for it
+	 */
+	private static final class Key {
+		final Path path;
+		final boolean text;
+
+
+		Key(Path path, boolean text) {
+			this.path = path;
+			this.text = text;
+		}
+
+
+		@Override
+		public int hashCode() {
+			return path.hashCode() * 31 + (text ? 1 : 0);
+		}
+
+
+		@Override
+		public boolean equals(Object obj) {
+			if(!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key)obj;
+			return text == other.text && path.equals(other.path);
+		}
+
+	}
+
+
+
+
+	/** Cached file contents and the file attributes they were read with
+	 */
+	private static final class Entry {
+		final long size;
+		final FileTime lastModified;
+		final Object fileKey;
+		final Object value;
+		final long weight;
+
+
+		Entry(BasicFileAttributes attrs, Object value, long weight) {
+			this.size = attrs.size();
+			this.lastModified = attrs.lastModifiedTime();
+			this.fileKey = attrs.fileKey();
+			this.value = value;
+			this.weight = weight;
+		}
+
+
+		boolean matches(BasicFileAttributes attrs) {
+			return size == attrs.size() && lastModified.equals(attrs.lastModifiedTime()) && Objects.equals(fileKey, attrs.fileKey());
+		}
+
+	}
+
+}
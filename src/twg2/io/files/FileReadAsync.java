@@ -0,0 +1,288 @@
+package twg2.io.files;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/** An asynchronous, thread safe file reader backed by {@link AsynchronousFileChannel}.
+ * Reads return a {@link CompletableFuture} immediately, so a single thread can keep many reads in flight.
+ * Read buffers are leased from a shared {@link BufferPool} and at most {@link #getMaxOutstandingReads()} files
+ * are open/read at once, additional reads are queued and started as earlier reads complete.
+ * Files are opened on the reader's executor (or the {@link ForkJoinPool#commonPool() common pool}) rather than the calling or I/O thread
+ * since opening a file can block.
+ * NOTE: futures are completed on the channel's I/O threads, use the {@code *Async()} methods of {@link CompletableFuture}
+ * to run long dependent actions on a different executor.
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+public class FileReadAsync {
+	private static final Set<StandardOpenOption> READ_OPTIONS = EnumSet.of(StandardOpenOption.READ);
+
+	private final BufferPool pool;
+	private final Charset charset;
+	private final ExecutorService executor;
+	/** runs the blocking file opens, {@link #executor} or the common pool */
+	private final Executor openExecutor;
+	private final int maxOutstandingReads;
+	private final AtomicInteger outstandingReads = new AtomicInteger();
+	private final Queue<AsyncRead<?>> pendingReads = new ConcurrentLinkedQueue<>();
+
+
+	/** Create an async file reader with a new default {@link BufferPool}, 'UTF-8' charset for text decoding,
+	 * at most 64 outstanding reads, and the default {@link AsynchronousFileChannel} thread pool
+	 */
+	public FileReadAsync() {
+		this(new BufferPool(), null, 64, null);
+	}
+
+
+	/** Create an async file reader
+	 * @param pool the buffer pool to lease read buffers from, may be shared with other components
+	 * @param charset the charset to use for text decoding, if null 'UTF-8' is used
+	 * @param maxOutstandingReads the maximum number of files being read at once, must be greater than 0
+	 * @param executor the executor used by the {@link AsynchronousFileChannel}s opened by this reader to handle I/O events
+	 * and complete futures, and to open files, if null the channels use the default system thread pool and files are opened
+	 * on the {@link ForkJoinPool#commonPool() common pool}.  The executor is not shutdown by this reader.
+	 */
+	public FileReadAsync(BufferPool pool, Charset charset, int maxOutstandingReads, ExecutorService executor) {
+		if(pool == null) {
+			throw new IllegalArgumentException("pool must not be null");
+		}
+		if(maxOutstandingReads < 1) {
+			throw new IllegalArgumentException("maxOutstandingReads must be greater than 0");
+		}
+		this.pool = pool;
+		this.charset = charset != null ? charset : StandardCharsets.UTF_8;
+		this.maxOutstandingReads = maxOutstandingReads;
+		this.executor = executor;
+		this.openExecutor = executor != null ? executor : ForkJoinPool.commonPool();
+	}
+
+
+	public BufferPool getBufferPool() {
+		return pool;
+	}
+
+
+	public Charset getCharset() {
+		return charset;
+	}
+
+
+	public int getMaxOutstandingReads() {
+		return maxOutstandingReads;
+	}
+
+
+	/**
+	 * @return the number of reads which have been started and not yet completed
+	 */
+	public int getOutstandingReads() {
+		return outstandingReads.get();
+	}
+
+
+	/**
+	 * @return the number of reads waiting for an outstanding read to complete before they are started
+	 */
+	public int getPendingReads() {
+		return pendingReads.size();
+	}
+
+
+	/** Asynchronously read a file into a new byte[]
+	 * @param path the file to read
+	 * @return a future completed with the file's contents or completed exceptionally with the {@link IOException} which occurred
+	 */
+	public CompletableFuture<byte[]> readBytes(Path path) {
+		return submit(path, (buf) -> Arrays.copyOf(buf.array(), buf.limit()));
+	}
+
+
+	/** Asynchronously read a String from a file using this reader's charset
+	 * @see #readString(Path, Charset)
+	 */
+	public CompletableFuture<String> readString(Path path) {
+		return readString(path, charset);
+	}
+
+
+	/** Asynchronously read a String from a file.
+	 * A leading UTF-8, UTF-16, or UTF-32 BOM is skipped and the rest of the file is decoded using the charset it identifies
+	 * (UTF-16 and UTF-32 BOMs are only recognized when {@code charset} is a Unicode charset).
+	 * Malformed input is replaced with the charset's default replacement string.
+	 * @param path the file to read
+	 * @param charset the charset to use to decode the file
+	 * @return a future completed with the file's contents or completed exceptionally with the {@link IOException} which occurred
+	 */
+	public CompletableFuture<String> readString(Path path, Charset charset) {
+		return submit(path, (buf) -> FileReadPool.decodeString(buf, charset));
+	}
+
+
+	/** Queue a read and start it if fewer than {@link #maxOutstandingReads} reads are in flight
+	 * @param path the file to read
+	 * @param converter converts the leased buffer containing the file's contents into the future's result,
+	 * the buffer is released to the pool once the converter returns
+	 */
+	protected <T> CompletableFuture<T> submit(Path path, Function<ByteBuffer, T> converter) {
+		AsyncRead<T> read = new AsyncRead<>(path, converter);
+		pendingReads.add(read);
+		startPending();
+		return read.future;
+	}
+
+
+	/** Start pending reads until the queue is empty or the outstanding read limit is reached.
+	 * Each started read is handed to {@link #openExecutor} so the caller (possibly a channel's completion thread) never blocks opening a file.
+	 */
+	private void startPending() {
+		while(!pendingReads.isEmpty()) {
+			int cur = outstandingReads.get();
+			if(cur >= maxOutstandingReads) {
+				return;
+			}
+			if(!outstandingReads.compareAndSet(cur, cur + 1)) {
+				continue;
+			}
+			AsyncRead<?> read = pendingReads.poll();
+			if(read == null) {
+				// another thread took the last pending read
+				outstandingReads.decrementAndGet();
+				continue;
+			}
+			try {
+				openExecutor.execute(read::start);
+			} catch(RejectedExecutionException e) {
+				outstandingReads.decrementAndGet();
+				read.future.completeExceptionally(e);
+			}
+		}
+	}
+
+
+	/** The state of one file read, reads the file in chunks into a leased buffer by re-submitting itself as the channel's completion handler
+	 */
+	private final class AsyncRead<T> implements CompletionHandler<Integer, Void> {
+		final CompletableFuture<T> future = new CompletableFuture<>();
+		private final Path path;
+		private final Function<ByteBuffer, T> converter;
+		private AsynchronousFileChannel ch;
+		/** the file size reported when the file was opened, 0 if unknown */
+		private int size;
+		private byte[] buf;
+		private int totalSize;
+
+
+		AsyncRead(Path path, Function<ByteBuffer, T> converter) {
+			this.path = path;
+			this.converter = converter;
+		}
+
+
+		/** Open the file and start the first read, run on {@link #openExecutor} once an outstanding read slot has been reserved.
+		 * Errors opening the file complete the future, free the slot, and start the next pending read.
+		 */
+		void start() {
+			try {
+				ch = AsynchronousFileChannel.open(path, READ_OPTIONS, executor);
+				long fileSize = ch.size();
+				if(fileSize > FileReadPool.MAX_ARRAY_SIZE) {
+					throw new IOException("file too large to read into an array (" + fileSize + " bytes): " + path);
+				}
+				size = (int)fileSize;
+				buf = pool.leaseBytes(size > 0 ? size : FileReadPool.UNKNOWN_SIZE_CHUNK);
+				readNext();
+			} catch(IOException | RuntimeException e) {
+				failed(e, null);
+			}
+		}
+
+
+		@Override
+		public void completed(Integer readSize, Void attachment) {
+			T res;
+			try {
+				if(readSize > 0) {
+					totalSize += readSize;
+				}
+				// continue until the end of the stream or until the size reported when the file was opened has been read
+				if(readSize >= 0 && (size == 0 || totalSize < size)) {
+					if(totalSize == buf.length) {
+						if(buf.length > FileReadPool.MAX_ARRAY_SIZE / 2) {
+							throw new IOException("file too large to read into an array (over " + totalSize + " bytes): " + path);
+						}
+						byte[] larger = pool.leaseBytes(buf.length << 1);
+						System.arraycopy(buf, 0, larger, 0, totalSize);
+						pool.release(buf);
+						buf = larger;
+					}
+					readNext();
+					return;
+				}
+				res = converter.apply(ByteBuffer.wrap(buf, 0, totalSize));
+			} catch(IOException | RuntimeException e) {
+				failed(e, attachment);
+				return;
+			}
+			close(null);
+			// free the slot before completing the future so dependent actions observe the read as finished
+			outstandingReads.decrementAndGet();
+			future.complete(res);
+			startPending();
+		}
+
+
+		@Override
+		public void failed(Throwable exc, Void attachment) {
+			close(exc);
+			outstandingReads.decrementAndGet();
+			future.completeExceptionally(exc);
+			startPending();
+		}
+
+
+		private void readNext() {
+			int readLen = Math.min(buf.length - totalSize, FileReadPool.MAX_READ_SIZE);
+			ch.read(ByteBuffer.wrap(buf, totalSize, readLen), totalSize, null, this);
+		}
+
+
+		/** Close the channel and release the buffer, errors closing the channel are added to {@code error} if it is not null
+		 */
+		private void close(Throwable error) {
+			if(ch != null) {
+				try {
+					ch.close();
+				} catch(IOException e) {
+					if(error != null) {
+						error.addSuppressed(e);
+					}
+				}
+			}
+			if(buf != null) {
+				pool.release(buf);
+				buf = null;
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,233 @@
+package twg2.io.files;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/** Reads a list of files in parallel using a {@link FileReadPool} and a configurable {@link Executor}.
+ * Files are handed to workers largest first so that one large file read near the end of a batch does not leave the other workers idle,
+ * and each worker pulls the next file as soon as it finishes its current one so small and large files balance across workers.
+ * Results are returned in the same order as the input paths and a failed read is reported in its result without aborting the rest of the batch.
+ * The calling thread acts as one of the workers and only waits for files already claimed by other workers, so a batch started from
+ * one of the executor's own threads can't deadlock waiting for queued workers.
+ * Batches can't be cancelled or time out, results are only available once every file has been read,
+ * and scheduling only considers file size (not which disk or directory a file is on).
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+public class FileReadBatch {
+	private final FileReadPool reader;
+	private final Executor executor;
+	private final int parallelism;
+
+
+	/** Create a batch reader with a new default {@link FileReadPool} which reads files on the {@link ForkJoinPool#commonPool()}
+	 * using one worker per available processor
+	 */
+	public FileReadBatch() {
+		this(new FileReadPool(), ForkJoinPool.commonPool(), Runtime.getRuntime().availableProcessors());
+	}
+
+
+	/** Create a batch reader
+	 * @param reader the thread safe reader used by the workers
+	 * @param executor the executor to run workers on, the calling thread also acts as one of the workers
+	 * @param parallelism the maximum number of workers reading files at once (including the calling thread), must be greater than 0
+	 */
+	public FileReadBatch(FileReadPool reader, Executor executor, int parallelism) {
+		if(reader == null) {
+			throw new IllegalArgumentException("reader must not be null");
+		}
+		if(executor == null) {
+			throw new IllegalArgumentException("executor must not be null");
+		}
+		if(parallelism < 1) {
+			throw new IllegalArgumentException("parallelism must be greater than 0");
+		}
+		this.reader = reader;
+		this.executor = executor;
+		this.parallelism = parallelism;
+	}
+
+
+	public FileReadPool getReader() {
+		return reader;
+	}
+
+
+	public int getParallelism() {
+		return parallelism;
+	}
+
+
+	/** Read a list of files into byte arrays
+	 * @param paths the files to read
+	 * @return a result for each path, in the same order as {@code paths}
+	 * @throws InterruptedException if the calling thread is interrupted while waiting for the workers
+	 */
+	public List<Result<byte[]>> readBytes(List<Path> paths) throws InterruptedException {
+		return readAll(paths, reader::readBytes);
+	}
+
+
+	/** Read a list of files into Strings using the reader's charset
+	 * @see #readStrings(List, Charset)
+	 */
+	public List<Result<String>> readStrings(List<Path> paths) throws InterruptedException {
+		return readAll(paths, reader::readString);
+	}
+
+
+	/** Read a list of files into Strings, see {@link FileReadPool#readString(Path, Charset)}
+	 * @param paths the files to read
+	 * @param charset the charset to use to decode the files
+	 * @return a result for each path, in the same order as {@code paths}
+	 * @throws InterruptedException if the calling thread is interrupted while waiting for the workers
+	 */
+	public List<Result<String>> readStrings(List<Path> paths, Charset charset) throws InterruptedException {
+		return readAll(paths, (path) -> reader.readString(path, charset));
+	}
+
+
+	/** Read a list of files in parallel, largest first
+	 * @param paths the files to read
+	 * @param pathReader the function to read each file with, called concurrently from multiple threads
+	 * @return a result for each path, in the same order as {@code paths}
+	 * @throws InterruptedException if the calling thread is interrupted while waiting for the workers
+	 */
+	protected <T> List<Result<T>> readAll(List<Path> paths, PathReader<T> pathReader) throws InterruptedException {
+		int count = paths.size();
+		if(count == 0) {
+			return Collections.emptyList();
+		}
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		Result<T>[] results = new Result[count];
+		Integer[] order = largestFirst(paths);
+		AtomicInteger next = new AtomicInteger();
+		// counts down once per file rather than once per worker, so the caller only waits on files a running worker has claimed,
+		// never on worker tasks still queued behind it in the executor (which would deadlock if the caller is itself an executor thread)
+		CountDownLatch done = new CountDownLatch(count);
+
+		Runnable worker = () -> {
+			int i;
+			while((i = next.getAndIncrement()) < count) {
+				int idx = order[i];
+				Path path = paths.get(idx);
+				try {
+					results[idx] = new Result<>(path, pathReader.read(path), null);
+				} catch(IOException | RuntimeException e) {
+					results[idx] = new Result<>(path, null, e);
+				} finally {
+					done.countDown();
+				}
+			}
+		};
+
+		int workerCount = Math.min(parallelism, count);
+		for(int i = 1; i < workerCount; i++) {
+			try {
+				executor.execute(worker);
+			} catch(RejectedExecutionException e) {
+				// the remaining workers pick up this worker's share of the files
+			}
+		}
+		// the caller drains the work queue itself, worker tasks which start after this find it empty and exit immediately
+		worker.run();
+		done.await();
+
+		return new ArrayList<>(Arrays.asList(results));
+	}
+
+
+	/**
+	 * @return the indexes of {@code paths} sorted by file size descending, files whose size can't be read are sorted last
+	 */
+	private static Integer[] largestFirst(List<Path> paths) {
+		int count = paths.size();
+		long[] sizes = new long[count];
+		Integer[] order = new Integer[count];
+		for(int i = 0; i < count; i++) {
+			order[i] = i;
+			try {
+				sizes[i] = Files.size(paths.get(i));
+			} catch(IOException | RuntimeException e) {
+				// the error is reported by the read
+				sizes[i] = -1;
+			}
+		}
+		Arrays.sort(order, (a, b) -> Long.compare(sizes[b], sizes[a]));
+		return order;
+	}
+
+
+	/** Reads a file, called concurrently by batch workers
+	 * @param <T> the type of data read from the file
+	 */
+	@FunctionalInterface
+	protected interface PathReader<T> {
+
+		public T read(Path path) throws IOException;
+
+	}
+
+
+	/** The result of reading one file in a batch, either a value or the error which occurred
+	 * @param <T> the type of data read from the file
+	 */
+	public static class Result<T> {
+		private final Path path;
+		private final T value;
+		private final Exception error;
+
+
+		public Result(Path path, T value, Exception error) {
+			this.path = path;
+			this.value = value;
+			this.error = error;
+		}
+
+
+		public Path getPath() {
+			return path;
+		}
+
+
+		/**
+		 * @return the data read from the file, null if the read failed
+		 */
+		public T getValue() {
+			return value;
+		}
+
+
+		/**
+		 * @return the {@link IOException} (or unchecked exception) thrown while reading the file, null if the read succeeded
+		 */
+		public Exception getError() {
+			return error;
+		}
+
+
+		public boolean isSuccess() {
+			return error == null;
+		}
+
+
+		@Override
+		public String toString() {
+			return "FileReadBatch.Result: { path: " + path + (error != null ? ", error: " + error : "") + " }";
+		}
+
+	}
+
+}
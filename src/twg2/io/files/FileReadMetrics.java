@@ -0,0 +1,141 @@
+package twg2.io.files;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/** Thread safe, lock-free read metrics aggregated across {@link FileReadUtil} instances.
+ * Every {@link FileReadUtil} instance (including each thread's {@link FileReadUtil#threadLocalInst()}) reports to {@link #global()}
+ * by default, so a process wide view can be scraped on demand from any thread.
+ * Counters are {@link LongAdder}s and each read adds its totals once after it completes, so the cost on the read path is a handful of uncontended adds per read.
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+public final class FileReadMetrics {
+	/** the number of size histogram buckets, bucket 0 counts empty reads and bucket {@code i} counts reads of [2^(i-1), 2^i) bytes */
+	public static final int SIZE_BUCKETS = 64;
+	private static final FileReadMetrics globalInst = new FileReadMetrics();
+
+	private final LongAdder readCount = new LongAdder();
+	private final LongAdder bytesRead = new LongAdder();
+	private final LongAdder charsDecoded = new LongAdder();
+	private final LongAdder readNanos = new LongAdder();
+	private final LongAdder decodeNanos = new LongAdder();
+	private final LongAdder[] sizeHistogram;
+
+
+	public FileReadMetrics() {
+		this.sizeHistogram = new LongAdder[SIZE_BUCKETS];
+		for(int i = 0; i < SIZE_BUCKETS; i++) {
+			this.sizeHistogram[i] = new LongAdder();
+		}
+	}
+
+
+	/** Record one completed read
+	 * @param bytes the number of bytes read
+	 * @param chars the number of chars decoded (or read from a {@link java.io.Reader})
+	 * @param readNs the nanoseconds spent reading bytes/chars
+	 * @param decodeNs the nanoseconds spent decoding bytes into chars
+	 */
+	public void record(long bytes, long chars, long readNs, long decodeNs) {
+		readCount.increment();
+		if(bytes != 0) {
+			bytesRead.add(bytes);
+		}
+		if(chars != 0) {
+			charsDecoded.add(chars);
+		}
+		if(readNs != 0) {
+			readNanos.add(readNs);
+		}
+		if(decodeNs != 0) {
+			decodeNanos.add(decodeNs);
+		}
+		sizeHistogram[sizeBucket(bytes != 0 ? bytes : chars)].increment();
+	}
+
+
+	public long getReadCount() {
+		return readCount.sum();
+	}
+
+
+	public long getBytesRead() {
+		return bytesRead.sum();
+	}
+
+
+	/**
+	 * @return the number of chars decoded from bytes or read from {@link java.io.Reader}s
+	 */
+	public long getCharsDecoded() {
+		return charsDecoded.sum();
+	}
+
+
+	/**
+	 * @return the total nanoseconds spent reading bytes/chars from files, streams, and readers
+	 */
+	public long getReadNanos() {
+		return readNanos.sum();
+	}
+
+
+	/**
+	 * @return the total nanoseconds spent decoding bytes into chars
+	 */
+	public long getDecodeNanos() {
+		return decodeNanos.sum();
+	}
+
+
+	/**
+	 * @return a snapshot of the read size histogram, index {@code i} is the number of reads of [2^(i-1), 2^i) bytes
+	 * (or chars for {@link java.io.Reader} reads), index 0 is the number of empty reads
+	 * @see #sizeBucket(long)
+	 */
+	public long[] getSizeHistogram() {
+		long[] res = new long[SIZE_BUCKETS];
+		for(int i = 0; i < SIZE_BUCKETS; i++) {
+			res[i] = sizeHistogram[i].sum();
+		}
+		return res;
+	}
+
+
+	/** Reset all counters to 0. Reads which complete concurrently with a reset may be partially counted.
+	 */
+	public void reset() {
+		readCount.reset();
+		bytesRead.reset();
+		charsDecoded.reset();
+		readNanos.reset();
+		decodeNanos.reset();
+		for(LongAdder bucket : sizeHistogram) {
+			bucket.reset();
+		}
+	}
+
+
+	@Override
+	public String toString() {
+		return "FileReadMetrics: { reads: " + readCount.sum() + ", bytesRead: " + bytesRead.sum() + ", charsDecoded: " + charsDecoded.sum() +
+				", readNanos: " + readNanos.sum() + ", decodeNanos: " + decodeNanos.sum() + " }";
+	}
+
+
+	/**
+	 * @return the metrics which {@link FileReadUtil} instances report to by default
+	 */
+	public static FileReadMetrics global() {
+		return globalInst;
+	}
+
+
+	/**
+	 * @return the size histogram bucket for a read size, 0 for empty reads, otherwise {@code floor(log2(size)) + 1}
+	 */
+	public static int sizeBucket(long size) {
+		return size <= 0 ? 0 : 64 - Long.numberOfLeadingZeros(size);
+	}
+
+}
@@ -0,0 +1,182 @@
+package twg2.io.files;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/** A thread safe alternative to {@link FileReadUtil} for workloads with many (possibly short lived) reader threads.
+ * Instead of pinning a cached buffer to each thread, every read leases a buffer from a shared {@link BufferPool}
+ * sized to the file being read and returns it to the pool when the read completes.
+ * The pool's size-class buckets and retained byte budget bound the memory held between reads regardless of the number of threads.
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+public class FileReadPool {
+	// 10 MB, limits the temporary native buffer used by heap buffer channel reads
+	static final int MAX_READ_SIZE = 10 * 1024 * 1024;
+	static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+	/** the initial buffer size for files whose size is reported as 0 (i.e. some special files) */
+	static final int UNKNOWN_SIZE_CHUNK = 8192;
+
+	private final BufferPool pool;
+	private final Charset charset;
+
+
+	/** Create a file read pool with a new default {@link BufferPool} and 'UTF-8' charset for text decoding
+	 */
+	public FileReadPool() {
+		this(new BufferPool(), null);
+	}
+
+
+	/** Create a file read pool
+	 * @param pool the buffer pool to lease read buffers from, may be shared with other components
+	 * @param charset the charset to use for text decoding, if null 'UTF-8' is used
+	 */
+	public FileReadPool(BufferPool pool, Charset charset) {
+		if(pool == null) {
+			throw new IllegalArgumentException("pool must not be null");
+		}
+		this.pool = pool;
+		this.charset = charset != null ? charset : StandardCharsets.UTF_8;
+	}
+
+
+	public BufferPool getBufferPool() {
+		return pool;
+	}
+
+
+	public Charset getCharset() {
+		return charset;
+	}
+
+
+	/** Read a file into a new byte[] using a leased buffer
+	 * @param path the file to read
+	 * @return the file's contents
+	 * @throws IOException if there is an error opening or reading the file
+	 */
+	public byte[] readBytes(Path path) throws IOException {
+		ByteBuffer buf = readLeased(path);
+		try {
+			return Arrays.copyOf(buf.array(), buf.limit());
+		} finally {
+			pool.release(buf.array());
+		}
+	}
+
+
+	/** Read a String from a file using this pool's charset
+	 * @see #readString(Path, Charset)
+	 */
+	public String readString(Path path) throws IOException {
+		return readString(path, charset);
+	}
+
+
+	/** Read a String from a file using a leased buffer.
+	 * A leading UTF-8, UTF-16, or UTF-32 BOM is skipped and the rest of the file is decoded using the charset it identifies
+	 * (UTF-16 and UTF-32 BOMs are only recognized when {@code charset} is a Unicode charset).
+	 * Malformed input is replaced with the charset's default replacement string.
+	 * @param path the file to read
+	 * @param charset the charset to use to decode the file
+	 * @return the file's contents
+	 * @throws IOException if there is an error opening or reading the file
+	 */
+	public String readString(Path path, Charset charset) throws IOException {
+		ByteBuffer buf = readLeased(path);
+		try {
+			return decodeString(buf, charset);
+		} finally {
+			pool.release(buf.array());
+		}
+	}
+
+
+	/** Decode the contents of an array backed buffer into a new String, if {@code charset} is a Unicode charset a leading UTF-8, UTF-16,
+	 * or UTF-32 BOM is skipped and the rest of the buffer is decoded using the charset it identifies, otherwise only a UTF-8 BOM is skipped
+	 */
+	static String decodeString(ByteBuffer buf, Charset charset) {
+		int bom = FileReadUtil.detectBom(buf, charset);
+		int skip = 0;
+		if(bom > -1) {
+			skip = FileReadUtil.BOM_LENGTHS[bom];
+			if(FileReadUtil.isUnicode(charset)) {
+				charset = FileReadUtil.BOM_CHARSETS[bom];
+			}
+		}
+		int off = buf.arrayOffset() + buf.position() + skip;
+		return new String(buf.array(), off, buf.remaining() - skip, charset);
+	}
+
+
+	/** Read a file into a buffer leased from {@link #pool}.
+	 * The caller is responsible for releasing the returned buffer's {@link ByteBuffer#array() array}.
+	 * @return a buffer wrapping the leased array with a limit equal to the number of bytes read
+	 */
+	protected ByteBuffer readLeased(Path path) throws IOException {
+		try(FileChannel ch = FileChannel.open(path, StandardOpenOption.READ)) {
+			long size = ch.size();
+			if(size > MAX_ARRAY_SIZE) {
+				throw new IOException("file too large to read into an array (" + size + " bytes): " + path);
+			}
+			return size > 0 ? readLeased(ch, (int)size) : readLeasedUnknownSize(ch, path);
+		}
+	}
+
+
+	private ByteBuffer readLeased(FileChannel ch, int size) throws IOException {
+		byte[] buf = pool.leaseBytes(size);
+		try {
+			ByteBuffer dst = ByteBuffer.wrap(buf, 0, 0);
+			int totalSize = 0;
+			while(totalSize < size) {
+				dst.limit(Math.min(size, totalSize + MAX_READ_SIZE));
+				int readSize = ch.read(dst, totalSize);
+				if(readSize < 0) {
+					break;
+				}
+				totalSize += readSize;
+			}
+			dst.position(0).limit(totalSize);
+			return dst;
+		} catch(IOException | RuntimeException e) {
+			pool.release(buf);
+			throw e;
+		}
+	}
+
+
+	/** Read a channel which reported a size of 0 (i.e. special files) until end of stream, doubling the leased buffer as it fills
+	 */
+	private ByteBuffer readLeasedUnknownSize(FileChannel ch, Path path) throws IOException {
+		byte[] buf = pool.leaseBytes(UNKNOWN_SIZE_CHUNK);
+		try {
+			int totalSize = 0;
+			int readSize;
+			while((readSize = ch.read(ByteBuffer.wrap(buf, totalSize, buf.length - totalSize))) != -1) {
+				totalSize += readSize;
+				if(totalSize == buf.length) {
+					if(buf.length > MAX_ARRAY_SIZE / 2) {
+						throw new IOException("file too large to read into an array (over " + totalSize + " bytes): " + path);
+					}
+					byte[] larger = pool.leaseBytes(buf.length << 1);
+					System.arraycopy(buf, 0, larger, 0, totalSize);
+					pool.release(buf);
+					buf = larger;
+				}
+			}
+			return ByteBuffer.wrap(buf, 0, totalSize);
+		} catch(IOException | RuntimeException e) {
+			pool.release(buf);
+			throw e;
+		}
+	}
+
+}
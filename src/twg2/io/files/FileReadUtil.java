@@ -8,16 +8,25 @@ import java.io.Reader;
 import java.io.Writer;
 import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.charset.CharacterCodingException;
 import java.nio.charset.Charset;
 import java.nio.charset.CharsetDecoder;
 import java.nio.charset.CoderResult;
 import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
+import java.util.zip.Checksum;
 
 /** A persistent helper for reading binary/text content from files.
  * Internally cached arrays/buffers are used to reduce array allocations and garbage. Initial calls may take longer than subsequent calls due to cache initialization.
  * WARNING: this class is not thread safe, cached arrays/buffers are used internally to reduce generated garbage, create one new instance per thread or use {@link #threadLocalInst()}.
+ * For many short lived threads use {@link FileReadPool} which leases buffers from a bounded {@link BufferPool} instead of pinning them to each thread.
  * @author TeamworkGuy2
  * @since 2015-9-19
  */
@@ -26,24 +35,97 @@ public class FileReadUtil {
 	private static final ThreadLocal<FileReadUtil> threadLocalInst = ThreadLocal.withInitial(() -> new FileReadUtil());
 	// 10 MB
 	private static int MAX_CHUNK_SIZE = 10 * 1024 * 1024;
+	// some JVMs reserve header words in arrays
+	private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+	// the number of recent stream read sizes used to learn the buffer size for stream reads
+	private static final int READ_SIZE_HISTORY = 32;
+	// the percentile of recent stream read sizes which the initial buffer is sized to hold without resizing
+	private static final float READ_SIZE_PERCENTILE = 0.9f;
 	// defaults which can be set by static methods
 	private static volatile int staticDefaultChunkSize = 8192;
+	private static volatile long staticDefaultMappedReadThreshold = 64 * 1024 * 1024;
+	private static volatile long staticDefaultMaxRetainedBytes = Long.MAX_VALUE;
+	private static volatile int staticDefaultShrinkAfterReads = 0;
 	private static volatile Charset defaultCharset = Charset.forName("UTF-8");
+	// byte order marks detected by detectBom(), indexes into BOM_CHARSETS and BOM_LENGTHS
+	static final int BOM_UTF8 = 0;
+	static final int BOM_UTF16BE = 1;
+	static final int BOM_UTF16LE = 2;
+	static final int BOM_UTF32BE = 3;
+	static final int BOM_UTF32LE = 4;
+	static final Charset[] BOM_CHARSETS = { StandardCharsets.UTF_8, StandardCharsets.UTF_16BE, StandardCharsets.UTF_16LE, Charset.forName("UTF-32BE"), Charset.forName("UTF-32LE") };
+	static final int[] BOM_LENGTHS = { 3, 2, 2, 4, 4 };
 
 	private CharsetDecoder charsetDecoder;
+	/** decoders for charsets detected from byte order marks, indexed the same as {@link #BOM_CHARSETS} and created on first use */
+	private CharsetDecoder[] bomDecoders;
 
 	/** the initial size of the temp buffers */
 	private int defaultChunkSize;
+	/** files this size or larger (in bytes) are read using {@link FileChannel#map} instead of an input stream */
+	private long mappedReadThreshold;
+	/** true to decode text streams one chunk at a time instead of buffering the entire stream in {@link #tmpByteBuf} before decoding */
+	private boolean incrementalDecode;
 	/** a single threaded unsafe byte buffer */
 	private byte[] tmpByteBuf;
 	/** a single threaded unsafe char buffer */
 	private char[] tmpCharBuf;
+	/** a single threaded unsafe direct (off-heap) buffer used by the readDirect() methods */
+	private ByteBuffer tmpDirectBuf;
+	/** a reusable view of {@link #tmpCharBuf} returned by the readCharSequence() methods */
+	private CharArrayView tmpCharView;
+	/** a reusable view of {@link #tmpCharBuf} passed to {@link LineHandler}s by the readLines() methods */
+	private CharArrayView tmpLineView;
+	/** the checksum updated with each chunk of bytes read by the current checksum read, null if the current read is not computing a checksum */
+	private Checksum readChecksum;
 	// ==== stats ====
 	private Stats statsInst;
-	private int totalByteReads;
-	private int byteBufResizeCount;
-	private int totalCharReads;
-	private int charBufResizeCount;
+	private long totalByteReads;
+	private long byteBufResizeCount;
+	private long directBufResizeCount;
+	private long totalCharReads;
+	private long charBufResizeCount;
+	private long decodeCount;
+	private long decodeEstimateMissCount;
+	private long cacheShrinkCount;
+	// ==== metrics ====
+	/** the shared metrics which completed reads are reported to, null to only track metrics per instance */
+	private FileReadMetrics metrics;
+	private long readCount;
+	private long bytesRead;
+	private long charsDecoded;
+	private long readNanos;
+	private long decodeNanos;
+	private long[] sizeHistogram;
+	// totals for the current read, added to the metrics by endRead()
+	private long opBytes;
+	private long opChars;
+	private long opReadNanos;
+	private long opDecodeNanos;
+	// ==== cache retention ====
+	/** the maximum number of bytes retained by the cached buffers between reads (chars count as 2 bytes) */
+	private long maxRetainedBytes;
+	/** the number of reads after which oversized buffers are shrunk to the largest size used during those reads, 0 to disable */
+	private int shrinkAfterReads;
+	/** the number of bytes used in {@link #tmpByteBuf} by the current read */
+	private int lastByteUse;
+	private int retentionWindowReads;
+	private int byteWindowHighWater;
+	private int charWindowHighWater;
+	// ==== decode size estimate history ====
+	/** the charset which {@link #observedCharsPerByte} was recorded for */
+	private Charset estimateCharset;
+	/** decaying high-water mark of the chars-per-byte ratios observed when decoding {@link #estimateCharset} */
+	private float observedCharsPerByte;
+	// ==== stream read size history ====
+	/** true to size stream read buffers from {@link #readSizeHistory} */
+	private boolean adaptiveChunkSize = true;
+	/** ring buffer of the byte counts of recent stream reads whose size was not known before reading */
+	private int[] readSizeHistory;
+	/** the total number of sizes recorded in {@link #readSizeHistory}, including overwritten sizes */
+	private int readSizeHistoryCount;
+	/** the {@link #READ_SIZE_PERCENTILE} of {@link #readSizeHistory}, -1 if it needs to be recalculated */
+	private int learnedReadSize;
 
 
 	/** Create a FileReadUtil with default 'UTF-8' charset for text decoding and initial buffered read() chunk size of 8192
@@ -63,6 +145,10 @@ public class FileReadUtil {
 		}
 		charset = charset != null ? charset : defaultCharset;
 		this.defaultChunkSize = defaultChunkSize;
+		this.mappedReadThreshold = staticDefaultMappedReadThreshold;
+		this.maxRetainedBytes = staticDefaultMaxRetainedBytes;
+		this.shrinkAfterReads = staticDefaultShrinkAfterReads;
+		this.metrics = FileReadMetrics.global();
 		this.charsetDecoder = charset.newDecoder()
 				.onMalformedInput(CodingErrorAction.REPLACE)
 				.onUnmappableCharacter(CodingErrorAction.REPLACE);
@@ -74,27 +160,127 @@ public class FileReadUtil {
 	}
 
 
+	public long getMappedReadThreshold() {
+		return mappedReadThreshold;
+	}
+
+
+	/** Set the file size (in bytes) at or above which {@link File} and {@link Path} reads use a memory mapped
+	 * {@link FileChannel} instead of an input stream, use {@link Long#MAX_VALUE} to disable memory mapped reads
+	 */
+	public void setMappedReadThreshold(long mappedReadThreshold) {
+		if(mappedReadThreshold < 0) {
+			throw new IllegalArgumentException("mappedReadThreshold must not be negative");
+		}
+		this.mappedReadThreshold = mappedReadThreshold;
+	}
+
+
+	public FileReadMetrics getMetrics() {
+		return metrics;
+	}
+
+
+	/** Set the shared metrics which this instance reports each completed read to, {@link FileReadMetrics#global()} by default.
+	 * Per instance metrics are always available from {@link #getStats()}.
+	 * @param metrics the metrics to report to, null to disable reporting
+	 */
+	public void setMetrics(FileReadMetrics metrics) {
+		this.metrics = metrics;
+	}
+
+
+	public boolean isAdaptiveChunkSize() {
+		return adaptiveChunkSize;
+	}
+
+
+	/** Enable or disable sizing stream read buffers from the sizes of recent stream reads (enabled by default).
+	 * When enabled, the initial buffer for an {@link InputStream} read is sized to hold the 90th percentile of the last 32 stream
+	 * read sizes and the buffer grows by at least a quarter of that size, so the common case is read without resizing the buffer.
+	 * Disabling this clears the recorded history and reverts to {@link #increaseChunkSize(int, int)} growth from the read's chunk size.
+	 */
+	public void setAdaptiveChunkSize(boolean adaptiveChunkSize) {
+		this.adaptiveChunkSize = adaptiveChunkSize;
+		if(!adaptiveChunkSize) {
+			this.readSizeHistory = null;
+			this.readSizeHistoryCount = 0;
+			this.learnedReadSize = 0;
+		}
+	}
+
+
+	public long getMaxRetainedBytes() {
+		return maxRetainedBytes;
+	}
+
+
+	public int getShrinkAfterReads() {
+		return shrinkAfterReads;
+	}
+
+
+	/** Set the policy used to release cached buffer memory after reads.
+	 * By default buffers keep their peak size for the life of the instance.
+	 * @param maxRetainedBytes the maximum number of bytes the cached buffers may retain between reads (chars count as 2 bytes),
+	 * if exceeded after a read the byte buffer and then the char buffer are released, use {@link Long#MAX_VALUE} for no limit
+	 * @param shrinkAfterReads after this many reads, buffers larger than twice the largest size used during those reads
+	 * are shrunk to that high-water mark, use 0 to disable
+	 */
+	public void setRetentionPolicy(long maxRetainedBytes, int shrinkAfterReads) {
+		if(maxRetainedBytes < 0) {
+			throw new IllegalArgumentException("maxRetainedBytes must not be negative");
+		}
+		if(shrinkAfterReads < 0) {
+			throw new IllegalArgumentException("shrinkAfterReads must not be negative");
+		}
+		this.maxRetainedBytes = maxRetainedBytes;
+		this.shrinkAfterReads = shrinkAfterReads;
+		this.retentionWindowReads = 0;
+		this.byteWindowHighWater = 0;
+		this.charWindowHighWater = 0;
+	}
+
+
+	public boolean isIncrementalDecode() {
+		return incrementalDecode;
+	}
+
+
+	/** Enable/disable incremental text decoding.
+	 * When enabled, text reads (other than memory mapped reads) decode each chunk as it is read and reuse a chunk sized {@link #tmpByteBuf},
+	 * so byte buffer memory is proportional to the chunk size instead of the size of the stream.
+	 * Partial multi-byte sequences at the end of a chunk are carried over to the next chunk.
+	 * @param incrementalDecode true to decode chunk by chunk, false (default) to buffer the entire stream before decoding
+	 */
+	public void setIncrementalDecode(boolean incrementalDecode) {
+		this.incrementalDecode = incrementalDecode;
+	}
+
+
 	// ==== read byte[] ====
 
-	/** Read a byte[] from a {@link File} using {@link FileInputStream} and the default buffer chunk size.
-	 * @see #readBinary(InputStream, int)
+	/** Read a byte[] from a {@link File} using the default buffer chunk size.
+	 * @see #readFileBytes(Path, int)
 	 */
 	public byte[] readBytes(File file) throws IOException {
-		try(FileInputStream is = new FileInputStream(file)) {
-			int readCnt = readBinary(is, defaultChunkSize);
-			return copyBuffer(this.tmpByteBuf, readCnt);
-		}
+		return readFileBytes(file.toPath(), defaultChunkSize);
 	}
 
 
-	/** Read a byte[] from a {@link File} using {@link FileInputStream} and the default buffer chunk size.
-	 * @see #readBinary(InputStream, int)
+	/** Read a byte[] from a {@link File} using a custom buffer chunk size.
+	 * @see #readFileBytes(Path, int)
 	 */
 	public byte[] readBytes(File file, int chunkSize) throws IOException {
-		try(FileInputStream is = new FileInputStream(file)) {
-			int readCnt = readBinary(is, chunkSize);
-			return copyBuffer(this.tmpByteBuf, readCnt);
-		}
+		return readFileBytes(file.toPath(), chunkSize);
+	}
+
+
+	/** Read a byte[] from a {@link Path} using the default buffer chunk size.
+	 * @see #readFileBytes(Path, int)
+	 */
+	public byte[] readBytes(Path path) throws IOException {
+		return readFileBytes(path, defaultChunkSize);
 	}
 
 
@@ -103,7 +289,7 @@ public class FileReadUtil {
 	 */
 	public byte[] readBytes(InputStream is) throws IOException {
 		int readCnt = readBinary(is, defaultChunkSize);
-		return copyBuffer(this.tmpByteBuf, readCnt);
+		return resultBytes(readCnt);
 	}
 
 
@@ -118,7 +304,7 @@ public class FileReadUtil {
 	 */
 	public byte[] readBytes(InputStream is, int chunkSize) throws IOException {
 		int readCnt = readBinary(is, chunkSize);
-		return copyBuffer(this.tmpByteBuf, readCnt);
+		return resultBytes(readCnt);
 	}
 
 
@@ -130,22 +316,35 @@ public class FileReadUtil {
 		if(chunkSize < 2) {
 			throw new IllegalArgumentException("chunkSize must be greater than 1");
 		}
+		long startNanos = System.nanoTime();
 		int totalSize = 0;
-		int variableChunkSize = chunkSize;
+		int learnedSize = getLearnedReadSize();
+		int variableChunkSize = Math.max(chunkSize, Math.min(learnedSize >>> 2, MAX_CHUNK_SIZE));
 
 		// Read initially available data
 		int available = is.available();
 		available = available < chunkSize ? chunkSize : available;
+		if(learnedSize > 0) {
+			// leave room for the end of stream check and the 80% growth threshold below
+			int learnedBufSize = (int)Math.min(MAX_ARRAY_SIZE, learnedSize + (learnedSize >>> 2) + 2L);
+			available = available < learnedBufSize ? learnedBufSize : available;
+		}
 		byte[] buffer = getByteBuf(available);
 		int readSize = is.read(buffer, 0, buffer.length);
 		totalByteReads++;
 		totalSize += readSize;
+		if(readChecksum != null && readSize > 0) {
+			readChecksum.update(buffer, 0, readSize);
+		}
 
 		int tmpReadNext = -1;
 		// read 1 byte to see if there is more input (performance optimization before allocating new buffer)
 		if((tmpReadNext = is.read()) > -1) {
 			totalByteReads++;
 			totalSize++;
+			if(readChecksum != null) {
+				readChecksum.update(tmpReadNext);
+			}
 			if(totalSize > (int)(buffer.length * 0.8f) - 1) {
 				// Create new array large enough to hold the original array and room for more data
 				byte[] temp = setByteBuf(new byte[buffer.length + variableChunkSize]);
@@ -158,6 +357,9 @@ public class FileReadUtil {
 			// Continue to read additional data until no more data is available to read
 			while((readSize = is.read(buffer, totalSize, buffer.length - totalSize)) != -1) {
 				totalByteReads++;
+				if(readChecksum != null) {
+					readChecksum.update(buffer, totalSize, readSize);
+				}
 				totalSize += readSize;
 				if(totalSize > (int)(buffer.length * 0.8f) - 1) {
 					// increase chunk size based on algorithm to minimize number of allocation arrays
@@ -171,31 +373,343 @@ public class FileReadUtil {
 			}
 		}
 
-		return totalSize < 0 ? 0 : totalSize;
+		totalSize = totalSize < 0 ? 0 : totalSize;
+		lastByteUse = totalSize;
+		recordReadSize(totalSize);
+		opBytes += totalSize;
+		opReadNanos += System.nanoTime() - startNanos;
+		return totalSize;
+	}
+
+
+	// ==== read and checksum ====
+
+	/** Read a byte[] from a {@link Path} and update a checksum with the file's bytes as each chunk is read, so the content is only traversed once.
+	 * @param path the file to read
+	 * @param checksum the checksum to update (i.e. {@link java.util.zip.CRC32C}), call {@link Checksum#getValue()} after this method returns to get the file's checksum
+	 * @return the file's contents
+	 * @throws IOException if there is an error opening or reading the file
+	 */
+	public byte[] readBytes(Path path, Checksum checksum) throws IOException {
+		this.readChecksum = checksum;
+		try {
+			return readFileBytes(path, defaultChunkSize);
+		} finally {
+			this.readChecksum = null;
+		}
+	}
+
+
+	/** Read a byte[] from an {@link InputStream} and update a checksum with the stream's bytes as each chunk is read.
+	 * @param is the input stream to read (stream is NOT closed by this method)
+	 * @see #readBytes(Path, Checksum)
+	 */
+	public byte[] readBytes(InputStream is, Checksum checksum) throws IOException {
+		this.readChecksum = checksum;
+		try {
+			int readCnt = readBinary(is, defaultChunkSize);
+			return resultBytes(readCnt);
+		} finally {
+			this.readChecksum = null;
+		}
+	}
+
+
+	/** Read a String from a {@link Path} using the default UTF-8 charset decoder and update a checksum with the file's raw (undecoded) bytes as each chunk is read.
+	 * @see #readBytes(Path, Checksum)
+	 */
+	public String readString(Path path, Checksum checksum) throws IOException {
+		this.readChecksum = checksum;
+		try {
+			return readFileString(path, charsetDecoder, defaultChunkSize);
+		} finally {
+			this.readChecksum = null;
+		}
+	}
+
+
+	/** Compute the checksum of a file without keeping its contents.
+	 * The file is read in chunks into {@link #tmpByteBuf} (at most the buffer's current size or {@link #MAX_CHUNK_SIZE}), so memory use does not depend on the file size.
+	 * @param path the file to checksum
+	 * @param checksum the checksum to update (i.e. {@link java.util.zip.CRC32C})
+	 * @return the checksum's value after it is updated with the file's bytes
+	 * @throws IOException if there is an error opening or reading the file
+	 */
+	public long checksum(Path path, Checksum checksum) throws IOException {
+		try(FileChannel ch = FileChannel.open(path, StandardOpenOption.READ)) {
+			return checksum(Channels.newInputStream(ch), checksum);
+		}
+	}
+
+
+	/** Compute the checksum of a stream without keeping its contents.
+	 * @param is the input stream to read (stream is NOT closed by this method)
+	 * @see #checksum(Path, Checksum)
+	 */
+	public long checksum(InputStream is, Checksum checksum) throws IOException {
+		long startNanos = System.nanoTime();
+		byte[] buf = getByteBuf(defaultChunkSize);
+		int len = Math.min(buf.length, MAX_CHUNK_SIZE);
+		long totalSize = 0;
+		int readSize;
+		while((readSize = is.read(buf, 0, len)) != -1) {
+			totalByteReads++;
+			checksum.update(buf, 0, readSize);
+			totalSize += readSize;
+		}
+		lastByteUse = len;
+		opBytes += totalSize;
+		opReadNanos += System.nanoTime() - startNanos;
+		endRead(0);
+		return checksum.getValue();
+	}
+
+
+	// ==== memory mapped reads ====
+
+	/** Memory map a file and return a read-only view of its contents.
+	 * No data is copied into this instance's cached buffers, the returned buffer remains valid after this
+	 * method returns and the mapping is released when the buffer is garbage collected.
+	 * @param path the file to map, must be smaller than 2 GB
+	 * @return a read-only {@link ByteBuffer} containing the file's contents
+	 * @throws IOException if there is an error opening or mapping the file
+	 */
+	public ByteBuffer readMapped(Path path) throws IOException {
+		try(FileChannel ch = FileChannel.open(path, StandardOpenOption.READ)) {
+			return mapChannel(ch, ch.size(), path);
+		}
+	}
+
+
+	// ==== direct buffer reads ====
+
+	/** Read a {@link File} into this instance's cached direct buffer.
+	 * @see #readDirect(Path)
+	 */
+	public ByteBuffer readDirect(File file) throws IOException {
+		return readDirect(file.toPath());
+	}
+
+
+	/** Read a file into this instance's cached direct (off-heap) {@link ByteBuffer} and return a read-only view of the bytes read.
+	 * Channels can write the returned buffer (i.e. to a socket or a native compressor) without copying it from the heap first.
+	 * WARNING: the returned buffer shares its contents with the cached direct buffer and is only valid until the next readDirect() call using this instance.
+	 * @param path the file to read
+	 * @return a read-only buffer with position 0 and limit equal to the number of bytes read
+	 * @throws IOException if there is an error opening or reading the file
+	 */
+	public ByteBuffer readDirect(Path path) throws IOException {
+		try(FileChannel ch = FileChannel.open(path, StandardOpenOption.READ)) {
+			long size = ch.size();
+			if(size > MAX_ARRAY_SIZE) {
+				throw new IOException("file too large to read into a buffer (" + size + " bytes): " + path);
+			}
+			return readDirect(ch, (int)size);
+		}
+	}
+
+
+	/** Read an {@link InputStream} into this instance's cached direct buffer, valid until the next readDirect() call using this instance.
+	 * A {@link FileInputStream} is read directly through its {@link FileInputStream#getChannel() channel}, other streams are wrapped
+	 * using {@link Channels#newChannel(InputStream)} which allocates a wrapper and a small transfer array per call and copies each chunk
+	 * through that array, so prefer {@link #readDirect(Path)} when the source is a file.
+	 * @param is the input stream to read (stream is NOT closed by this method)
+	 * @see #readDirect(Path)
+	 */
+	public ByteBuffer readDirect(InputStream is) throws IOException {
+		// the channel shares the stream's position and is not closed here since closing it would close the stream
+		ReadableByteChannel ch = (is instanceof FileInputStream) ? ((FileInputStream)is).getChannel() : Channels.newChannel(is);
+		return readDirect(ch, is.available());
+	}
+
+
+	/** Read a channel until end of stream into {@link #tmpDirectBuf}, growing the buffer as needed
+	 * @param ch the channel to read
+	 * @param sizeEstimate the expected number of bytes, used to size the buffer before reading, 0 if unknown
+	 * @return a read-only view of the bytes read
+	 */
+	protected ByteBuffer readDirect(ReadableByteChannel ch, int sizeEstimate) throws IOException {
+		long startNanos = System.nanoTime();
+		// +1 so a correct estimate does not grow the buffer while checking for the end of the stream
+		ByteBuffer buf = getDirectBuf(Math.max(sizeEstimate + 1, defaultChunkSize));
+		buf.clear();
+		int variableChunkSize = defaultChunkSize;
+		int readSize;
+		while((readSize = ch.read(buf)) != -1) {
+			totalByteReads++;
+			if(!buf.hasRemaining()) {
+				if(buf.capacity() >= MAX_ARRAY_SIZE) {
+					throw new IOException("input too large to read into a buffer (over " + buf.capacity() + " bytes)");
+				}
+				variableChunkSize = increaseChunkSize(variableChunkSize, defaultChunkSize);
+				int newSize = (int)Math.min(MAX_ARRAY_SIZE, (long)buf.capacity() + Math.max(buf.capacity() >> 1, variableChunkSize));
+				ByteBuffer larger = setDirectBuf(ByteBuffer.allocateDirect(newSize));
+				buf.flip();
+				larger.put(buf);
+				buf = larger;
+			}
+		}
+		buf.flip();
+		ByteBuffer res = buf.asReadOnlyBuffer();
+		opBytes += res.remaining();
+		opReadNanos += System.nanoTime() - startNanos;
+		endRead(0);
+		return res;
+	}
+
+
+	// ==== read files ====
+
+	/** Read a file into a new byte[].
+	 * The file's size is used to size {@link #tmpByteBuf} once before filling it with positional reads.
+	 * Files at or above {@link #getMappedReadThreshold()} are memory mapped and copied directly into the returned array.
+	 * @param path the file to read
+	 * @param chunkSize the number of bytes to read per chunk if the file's size is not known (i.e. a special file which reports a size of 0)
+	 * @return the file's contents
+	 * @throws IOException if there is an error opening or reading the file
+	 */
+	protected byte[] readFileBytes(Path path, int chunkSize) throws IOException {
+		try(FileChannel ch = FileChannel.open(path, StandardOpenOption.READ)) {
+			long size = ch.size();
+			if(size >= mappedReadThreshold) {
+				long startNanos = System.nanoTime();
+				ByteBuffer buf = mapChannel(ch, size, path);
+				byte[] res = new byte[buf.remaining()];
+				buf.get(res);
+				if(readChecksum != null) {
+					readChecksum.update(res, 0, res.length);
+				}
+				opBytes += res.length;
+				opReadNanos += System.nanoTime() - startNanos;
+				endRead(0);
+				return res;
+			}
+			int readCnt = readBinary(ch, size, chunkSize);
+			return resultBytes(readCnt);
+		}
+	}
+
+
+	/** Read and decode a file into {@link #tmpCharBuf}.
+	 * Files at or above {@link #getMappedReadThreshold()} are memory mapped and decoded without copying them into {@link #tmpByteBuf}.
+	 * @param path the file to read
+	 * @param decoder the {@link CharsetDecoder} to use
+	 * @param chunkSize the number of bytes to read per chunk if the file's size is not known
+	 * @return return number of chars written into {@link #tmpCharBuf}
+	 * @throws IOException if there is an error opening, reading, or decoding the file
+	 */
+	protected int readFileText(Path path, CharsetDecoder decoder, int chunkSize) throws IOException {
+		try(FileChannel ch = FileChannel.open(path, StandardOpenOption.READ)) {
+			return readChannelText(ch, ch.size(), path, decoder, chunkSize);
+		}
+	}
+
+
+	/** Read and decode a file into a new String.
+	 * Unlike {@link #readFileText(Path, CharsetDecoder, int)}, pure ASCII files read into {@link #tmpByteBuf} are converted directly
+	 * to a compact Latin-1 String without being decoded into {@link #tmpCharBuf}.
+	 * @see #readFileText(Path, CharsetDecoder, int)
+	 */
+	protected String readFileString(Path path, CharsetDecoder decoder, int chunkSize) throws IOException {
+		try(FileChannel ch = FileChannel.open(path, StandardOpenOption.READ)) {
+			long size = ch.size();
+			if(size < mappedReadThreshold && !incrementalDecode) {
+				int readSize = readBinary(ch, size, chunkSize);
+				return decodeString(ByteBuffer.wrap(this.tmpByteBuf, 0, readSize), decoder, chunkSize);
+			}
+			int readCnt = readChannelText(ch, size, path, decoder, chunkSize);
+			return resultString(readCnt);
+		}
+	}
+
+
+	/** Read and decode an open file channel into {@link #tmpCharBuf} using a memory mapped, incremental, or buffered read
+	 * depending on the file size, {@link #getMappedReadThreshold()}, and {@link #isIncrementalDecode()}
+	 * @return return number of chars written into {@link #tmpCharBuf}
+	 */
+	private int readChannelText(FileChannel ch, long size, Path path, CharsetDecoder decoder, int chunkSize) throws IOException {
+		if(size >= mappedReadThreshold) {
+			ByteBuffer mapped = mapChannel(ch, size, path);
+			opBytes += mapped.remaining();
+			if(readChecksum != null) {
+				readChecksum.update(mapped.duplicate());
+			}
+			return decodeText(mapped, decoder, chunkSize);
+		}
+		if(incrementalDecode) {
+			return readTextIncremental(Channels.newInputStream(ch), decoder, chunkSize, size);
+		}
+		int readSize = readBinary(ch, size, chunkSize);
+		return decodeText(ByteBuffer.wrap(this.tmpByteBuf, 0, readSize), decoder, chunkSize);
+	}
+
+
+	/** Read {@code size} bytes from a {@link FileChannel} into {@link #tmpByteBuf}.
+	 * Since the size is known, the buffer is sized exactly once and then filled using positional reads.
+	 * @param ch the file channel to read (channel is NOT closed by this method)
+	 * @param size the size of the file, if 0 the size is assumed to be unknown and the channel is read in chunks
+	 * @param chunkSize the number of bytes to read per chunk if {@code size} is 0
+	 * @return return number of bytes written into {@link #tmpByteBuf}
+	 * @throws IOException
+	 */
+	protected int readBinary(FileChannel ch, long size, int chunkSize) throws IOException {
+		if(size > MAX_ARRAY_SIZE) {
+			throw new IOException("file too large to read into an array (" + size + " bytes)");
+		}
+		if(size == 0) {
+			// some special files report a size of 0, fall back to reading until the end of the stream
+			return readBinary(Channels.newInputStream(ch), chunkSize);
+		}
+		long startNanos = System.nanoTime();
+		int len = (int)size;
+		ByteBuffer dst = ByteBuffer.wrap(getByteBuf(len), 0, 0);
+		int totalSize = 0;
+		while(totalSize < len) {
+			// limit each read since heap buffer channel reads copy through a temporary native buffer of the same size
+			dst.limit(Math.min(len, totalSize + MAX_CHUNK_SIZE));
+			int readSize = ch.read(dst, totalSize);
+			if(readSize < 0) {
+				break;
+			}
+			totalByteReads++;
+			if(readChecksum != null) {
+				readChecksum.update(dst.array(), totalSize, readSize);
+			}
+			totalSize += readSize;
+		}
+		lastByteUse = totalSize;
+		opBytes += totalSize;
+		opReadNanos += System.nanoTime() - startNanos;
+		return totalSize;
 	}
 
 
 	// ==== read byte[] -> char[] ====
 
-	/** Read a char[] from an {@link InputStream} using {@link FileInputStream} and the default UTF-8 charset decoder and default buffer chunk size.
-	 * @see #readChars(InputStream, CharsetDecoder, int)
+	/** Read a char[] from a {@link File} using the default UTF-8 charset decoder and default buffer chunk size.
+	 * @see #readFileText(Path, CharsetDecoder, int)
 	 */
 	public char[] readChars(File file) throws IOException {
-		try(FileInputStream is = new FileInputStream(file)) {
-			int readCnt = readText(is, charsetDecoder, defaultChunkSize);
-			return copyBuffer(this.tmpCharBuf, readCnt);
-		}
+		int readCnt = readFileText(file.toPath(), charsetDecoder, defaultChunkSize);
+		return resultChars(readCnt);
 	}
 
 
-	/** Read a char[] from an {@link File} using {@link FileInputStream} and the default UTF-8 charset decoder and a custom buffer chunk size.
-	 * @see #readChars(InputStream, CharsetDecoder, int)
+	/** Read a char[] from a {@link File} using the default UTF-8 charset decoder and a custom buffer chunk size.
+	 * @see #readFileText(Path, CharsetDecoder, int)
 	 */
 	public char[] readChars(File file, int chunkSize) throws IOException {
-		try(FileInputStream is = new FileInputStream(file)) {
-			int readCnt = readText(is, charsetDecoder, chunkSize);
-			return copyBuffer(this.tmpCharBuf, readCnt);
-		}
+		int readCnt = readFileText(file.toPath(), charsetDecoder, chunkSize);
+		return resultChars(readCnt);
+	}
+
+
+	/** Read a char[] from a {@link Path} using the default UTF-8 charset decoder and default buffer chunk size.
+	 * @see #readFileText(Path, CharsetDecoder, int)
+	 */
+	public char[] readChars(Path path) throws IOException {
+		int readCnt = readFileText(path, charsetDecoder, defaultChunkSize);
+		return resultChars(readCnt);
 	}
 
 
@@ -208,7 +722,7 @@ public class FileReadUtil {
 	 */
 	public char[] readChars(InputStream is) throws IOException {
 		int readCnt = readText(is, charsetDecoder, defaultChunkSize);
-		return copyBuffer(this.tmpCharBuf, readCnt);
+		return resultChars(readCnt);
 	}
 
 
@@ -217,7 +731,7 @@ public class FileReadUtil {
 	 */
 	public char[] readChars(InputStream is, int chunkSize) throws IOException {
 		int readCnt = readText(is, charsetDecoder, chunkSize);
-		return copyBuffer(this.tmpCharBuf, readCnt);
+		return resultChars(readCnt);
 	}
 
 
@@ -233,32 +747,34 @@ public class FileReadUtil {
 	 */
 	public char[] readChars(InputStream is, CharsetDecoder decoder, int chunkSize) throws IOException {
 		int readCnt = readText(is, decoder, chunkSize);
-		return copyBuffer(this.tmpCharBuf, readCnt);
+		return resultChars(readCnt);
 	}
 
 
 	// ==== read byte[] -> String ====
 
 
-	/** Read a String from an {@link File} using {@link FileInputStream} and the default UTF-8 charset decoder and default buffer chunk size.
-	 * @see #readString(InputStream, CharsetDecoder, int)
+	/** Read a String from a {@link File} using the default UTF-8 charset decoder and default buffer chunk size.
+	 * @see #readFileString(Path, CharsetDecoder, int)
 	 */
 	public String readString(File file) throws IOException {
-		try(FileInputStream is = new FileInputStream(file)) {
-			int readCnt = readText(is, charsetDecoder, defaultChunkSize);
-			return new String(this.tmpCharBuf, 0, readCnt);
-		}
+		return readFileString(file.toPath(), charsetDecoder, defaultChunkSize);
 	}
 
 
-	/** Read a String from an {@link File} using {@link FileInputStream} and the default UTF-8 charset decoder and a custom buffer chunk size.
-	 * @see #readString(InputStream, CharsetDecoder, int)
+	/** Read a String from a {@link File} using the default UTF-8 charset decoder and a custom buffer chunk size.
+	 * @see #readFileString(Path, CharsetDecoder, int)
 	 */
 	public String readString(File file, int chunkSize) throws IOException {
-		try(FileInputStream is = new FileInputStream(file)) {
-			int readCnt = readText(is, charsetDecoder, chunkSize);
-			return new String(this.tmpCharBuf, 0, readCnt);
-		}
+		return readFileString(file.toPath(), charsetDecoder, chunkSize);
+	}
+
+
+	/** Read a String from a {@link Path} using the default UTF-8 charset decoder and default buffer chunk size.
+	 * @see #readFileString(Path, CharsetDecoder, int)
+	 */
+	public String readString(Path path) throws IOException {
+		return readFileString(path, charsetDecoder, defaultChunkSize);
 	}
 
 
@@ -266,8 +782,7 @@ public class FileReadUtil {
 	 * @see #readString(InputStream, CharsetDecoder, int)
 	 */
 	public String readString(InputStream is) throws IOException {
-		int readCnt = readText(is, charsetDecoder, defaultChunkSize);
-		return new String(this.tmpCharBuf, 0, readCnt);
+		return readTextString(is, charsetDecoder, defaultChunkSize);
 	}
 
 
@@ -275,8 +790,7 @@ public class FileReadUtil {
 	 * @see #readString(InputStream, CharsetDecoder, int)
 	 */
 	public String readString(InputStream is, int chunkSize) throws IOException {
-		int readCnt = readText(is, charsetDecoder, chunkSize);
-		return new String(this.tmpCharBuf, 0, readCnt);
+		return readTextString(is, charsetDecoder, chunkSize);
 	}
 
 
@@ -291,8 +805,7 @@ public class FileReadUtil {
 	 * @throws IOException
 	 */
 	public String readString(InputStream is, CharsetDecoder decoder, int chunkSize) throws IOException {
-		int readCnt = readText(is, decoder, chunkSize);
-		return new String(this.tmpCharBuf, 0, readCnt);
+		return readTextString(is, decoder, chunkSize);
 	}
 
 
@@ -306,36 +819,483 @@ public class FileReadUtil {
 	 * @throws IOException
 	 */
 	protected int readText(InputStream is, CharsetDecoder decoder, int chunkSize) throws IOException {
+		if(incrementalDecode) {
+			return readTextIncremental(is, decoder, chunkSize, is.available());
+		}
 		// read the stream bytes into share temp byte[]
 		int readSize = readBinary(is, chunkSize);
-		byte[] buf = this.tmpByteBuf;
-		// detect and skip UTF-8 BOM
-		int skip = (readSize > 3 && buf[0] == (byte)0xEF && buf[1] == (byte)0xBB && buf[2] == (byte)0xBF ? 3 : 0);
-		// assume ASCII
-		float avgBytesPerChar = 1;
-		int charsEst = (int)((readSize - skip) * avgBytesPerChar);
+		return decodeText(ByteBuffer.wrap(this.tmpByteBuf, 0, readSize), decoder, chunkSize);
+	}
+
+
+	/** Read an {@link InputStream} and decode it into a new String.
+	 * Unless {@link #isIncrementalDecode()} is enabled, pure ASCII streams are converted directly from {@link #tmpByteBuf}
+	 * to a compact Latin-1 String without being decoded into {@link #tmpCharBuf}.
+	 * @see #readText(InputStream, CharsetDecoder, int)
+	 */
+	protected String readTextString(InputStream is, CharsetDecoder decoder, int chunkSize) throws IOException {
+		if(incrementalDecode) {
+			int readCnt = readTextIncremental(is, decoder, chunkSize, is.available());
+			return resultString(readCnt);
+		}
+		int readSize = readBinary(is, chunkSize);
+		return decodeString(ByteBuffer.wrap(this.tmpByteBuf, 0, readSize), decoder, chunkSize);
+	}
+
+
+	/** Decode an array backed {@link ByteBuffer} into a new String, a leading BOM selects the charset used to decode the rest of the buffer.
+	 * If the decoder's charset is ASCII compatible and the bytes are all ASCII (or the charset is ISO-8859-1),
+	 * the String is created directly from the bytes using the Latin-1 charset, otherwise the bytes are decoded into {@link #tmpCharBuf} first.
+	 */
+	protected String decodeString(ByteBuffer in, CharsetDecoder decoder, int chunkSize) throws IOException {
+		decoder = selectDecoder(in, decoder);
+		if(canWidenBytes(decoder.charset(), in)) {
+			long startNanos = System.nanoTime();
+			String res = new String(in.array(), in.arrayOffset() + in.position(), in.remaining(), StandardCharsets.ISO_8859_1);
+			opChars += res.length();
+			opDecodeNanos += System.nanoTime() - startNanos;
+			endRead(0);
+			return res;
+		}
+		int readCnt = decodeChars(in, decoder, chunkSize);
+		return resultString(readCnt);
+	}
+
+
+	/** Decode a {@link ByteBuffer} (array backed or direct) into {@link #tmpCharBuf}.
+	 * A leading UTF-8, UTF-16, or UTF-32 BOM is skipped and the rest of the buffer is decoded using the charset it identifies
+	 * (UTF-16 and UTF-32 BOMs are only recognized when the decoder's charset is a Unicode charset).
+	 * @param in the bytes to decode, from the buffer's position to its limit
+	 * @param decoder the {@link CharsetDecoder} to use
+	 * @param chunkSize the minimum size of the char buffer
+	 * @return return number of chars written into {@link #tmpCharBuf}
+	 * @throws IOException
+	 */
+	protected int decodeText(ByteBuffer in, CharsetDecoder decoder, int chunkSize) throws IOException {
+		decoder = selectDecoder(in, decoder);
+		return decodeChars(in, decoder, chunkSize);
+	}
+
+
+	/** Decode a {@link ByteBuffer} (array backed or direct) into {@link #tmpCharBuf}.
+	 * If the decoder's charset is ASCII compatible and a pre-scan finds only ASCII bytes (or the charset is ISO-8859-1),
+	 * the bytes are widened directly to chars instead of running the {@link CharsetDecoder}.
+	 * @return return number of chars written into {@link #tmpCharBuf}
+	 */
+	private int decodeChars(ByteBuffer in, CharsetDecoder decoder, int chunkSize) throws IOException {
+		long startNanos = System.nanoTime();
+		int readSize = in.remaining();
+		if(canWidenBytes(decoder.charset(), in)) {
+			int charCnt = widenBytes(in, getCharBuf(readSize > chunkSize ? readSize : chunkSize));
+			opChars += charCnt;
+			opDecodeNanos += System.nanoTime() - startNanos;
+			return charCnt;
+		}
+		int charsEst = estimateChars(decoder, readSize);
 		// use shared temp char[] for writes
 		CharBuffer outBuf = CharBuffer.wrap(getCharBuf(charsEst > chunkSize ? charsEst : chunkSize));
 
-		CharBuffer resBuf = decode(decoder, ByteBuffer.wrap(buf, skip, readSize - skip), outBuf);
+		CharBuffer resBuf = decode(decoder, in, outBuf);
 
+		decodeCount++;
 		// save the the write array for future use if decode() expanded it
 		if(resBuf != outBuf) {
-			if(outBuf.capacity() < resBuf.capacity()) {
+			if(resBuf.capacity() < outBuf.capacity()) {
 				throw new IllegalStateException("decode returned a buffer smaller than the input buffer");
 			}
-			this.tmpCharBuf = resBuf.array(); // assumes array backed buffer
+			decodeEstimateMissCount++;
+			setCharBuf(resBuf.array()); // assumes array backed buffer
 		}
 
+		recordCharsPerByte(decoder.charset(), readSize, resBuf.limit());
+
+		opChars += resBuf.limit();
+		opDecodeNanos += System.nanoTime() - startNanos;
 		return resBuf.limit();
 	}
 
 
+	/** Estimate the number of chars {@code byteCount} bytes will decode into, using the larger of the decoder's average
+	 * chars-per-byte and the ratio previously observed by this instance for the same charset, capped at the decoder's max chars-per-byte.
+	 */
+	protected int estimateChars(CharsetDecoder decoder, int byteCount) {
+		float charsPerByte = decoder.averageCharsPerByte();
+		if(decoder.charset().equals(estimateCharset) && observedCharsPerByte > charsPerByte) {
+			charsPerByte = observedCharsPerByte;
+		}
+		charsPerByte = Math.min(charsPerByte, decoder.maxCharsPerByte());
+		return (int)Math.min((long)Math.ceil(byteCount * (double)charsPerByte), MAX_ARRAY_SIZE);
+	}
+
+
+	/** Update the decaying high-water mark of observed chars-per-byte ratios, the mark jumps to larger ratios immediately and decays toward smaller ratios
+	 */
+	private void recordCharsPerByte(Charset charset, int byteCount, int charCount) {
+		if(byteCount < 1) {
+			return;
+		}
+		float ratio = charCount / (float)byteCount;
+		if(!charset.equals(estimateCharset)) {
+			estimateCharset = charset;
+			observedCharsPerByte = ratio;
+		}
+		else {
+			observedCharsPerByte = Math.max(ratio, observedCharsPerByte * 0.75f + ratio * 0.25f);
+		}
+	}
+
+
+	/** Read and decode an {@link InputStream} one chunk at a time, reusing {@link #tmpByteBuf} for each chunk.
+	 * Bytes belonging to a multi-byte sequence split across chunks are left in the byte buffer and decoded with the next chunk.
+	 * A leading BOM is skipped and selects the charset used to decode the rest of the stream.
+	 * @param is the input stream to read (stream is NOT closed by this method)
+	 * @param decoder the {@link CharsetDecoder} to use
+	 * @param chunkSize the number of bytes to read per chunk
+	 * @param sizeEstimate an estimate of the number of bytes in the stream, used to size {@link #tmpCharBuf}
+	 * @return return number of chars written into {@link #tmpCharBuf}
+	 * @throws IOException
+	 */
+	protected int readTextIncremental(InputStream is, CharsetDecoder decoder, int chunkSize, long sizeEstimate) throws IOException {
+		if(chunkSize < 2) {
+			throw new IllegalArgumentException("chunkSize must be greater than 1");
+		}
+		// leave room for partial multi-byte sequences carried over between chunks
+		int chunkLen = chunkSize < 16 ? 16 : chunkSize;
+		byte[] chunk = getByteBuf(chunkLen);
+		// limit the buffer's capacity to the chunk size in case the cached byte[] is larger
+		ByteBuffer in = ByteBuffer.wrap(chunk, 0, chunkLen).slice();
+		in.limit(0);
+		lastByteUse = chunkLen;
+		CharBuffer out = null;
+		boolean bomChecked = false;
+		boolean endOfInput = false;
+		long totalSize = 0;
+		long startNanos = System.nanoTime();
+		long readNs = 0;
+		boolean unknownSize = sizeEstimate <= 0;
+		if(unknownSize) {
+			sizeEstimate = getLearnedReadSize();
+		}
+
+		while(!endOfInput) {
+			// append the next chunk after any undecoded bytes left from the previous chunk
+			in.compact();
+			long readStart = System.nanoTime();
+			int readSize = is.read(chunk, in.position(), in.remaining());
+			readNs += System.nanoTime() - readStart;
+			if(readSize < 0) {
+				endOfInput = true;
+			}
+			else {
+				totalByteReads++;
+				totalSize += readSize;
+				if(readChecksum != null) {
+					readChecksum.update(chunk, in.position(), readSize);
+				}
+				in.position(in.position() + readSize);
+			}
+			in.flip();
+
+			if(!bomChecked) {
+				if(in.remaining() < 4 && !endOfInput) {
+					continue;
+				}
+				decoder = selectDecoder(in, decoder);
+				decoder.reset();
+				int charsEst = estimateChars(decoder, (int)Math.min(sizeEstimate, MAX_ARRAY_SIZE));
+				out = CharBuffer.wrap(getCharBuf(charsEst > chunkSize ? charsEst : chunkSize));
+				bomChecked = true;
+			}
+
+			CoderResult cr;
+			while((cr = decoder.decode(in, out, endOfInput)).isOverflow()) {
+				out = growCharBuf(out);
+			}
+			if(cr.isError()) {
+				cr.throwException();
+			}
+		}
+
+		while(decoder.flush(out).isOverflow()) {
+			out = growCharBuf(out);
+		}
+
+		// only unknown size reads inform the learned read size, known sizes are used directly
+		if(unknownSize) {
+			recordReadSize((int)Math.min(totalSize, MAX_ARRAY_SIZE));
+		}
+		opBytes += totalSize;
+		opChars += out.position();
+		opReadNanos += readNs;
+		opDecodeNanos += System.nanoTime() - startNanos - readNs;
+		return out.position();
+	}
+
+
+	/** Record the number of bytes read by a stream read whose size was not known before reading
+	 */
+	protected void recordReadSize(int size) {
+		if(!adaptiveChunkSize) {
+			return;
+		}
+		if(readSizeHistory == null) {
+			readSizeHistory = new int[READ_SIZE_HISTORY];
+		}
+		readSizeHistory[readSizeHistoryCount % READ_SIZE_HISTORY] = size;
+		readSizeHistoryCount = readSizeHistoryCount == Integer.MAX_VALUE ? READ_SIZE_HISTORY : readSizeHistoryCount + 1;
+		learnedReadSize = -1;
+	}
+
+
+	/**
+	 * @return the 90th percentile of recent stream read sizes, 0 if there is no history or {@link #isAdaptiveChunkSize()} is disabled
+	 */
+	protected int getLearnedReadSize() {
+		if(learnedReadSize < 0) {
+			int count = Math.min(readSizeHistoryCount, READ_SIZE_HISTORY);
+			int[] sizes = Arrays.copyOf(readSizeHistory, count);
+			Arrays.sort(sizes);
+			learnedReadSize = sizes[(int)Math.ceil(count * READ_SIZE_PERCENTILE) - 1];
+		}
+		return learnedReadSize;
+	}
+
+
+	/** Detect a UTF-8, UTF-16, or UTF-32 BOM at the buffer's position, skip it, and return the decoder for the charset it identifies.
+	 * The decoder is only switched if {@code decoder} is itself a Unicode (UTF-*) decoder, for other charsets a UTF-8 BOM is skipped
+	 * and other BOMs are left in the buffer since their bytes are valid text in single-byte charsets such as ISO-8859-1.
+	 * Decoders for BOM charsets are cached by this instance and use the same error actions as {@code decoder}.
+	 * @param in the buffer to check, if a BOM is found the buffer's position is moved past it
+	 * @param decoder the decoder to use if no BOM is found, if it already decodes the BOM's charset, or if it is not a Unicode decoder
+	 * @return the decoder to use for the rest of the buffer
+	 */
+	protected CharsetDecoder selectDecoder(ByteBuffer in, CharsetDecoder decoder) {
+		int bom = detectBom(in, decoder.charset());
+		if(bom < 0) {
+			return decoder;
+		}
+		in.position(in.position() + BOM_LENGTHS[bom]);
+		if(BOM_CHARSETS[bom].equals(decoder.charset()) || !isUnicode(decoder.charset())) {
+			return decoder;
+		}
+		if(bomDecoders == null) {
+			bomDecoders = new CharsetDecoder[BOM_CHARSETS.length];
+		}
+		CharsetDecoder bomDecoder = bomDecoders[bom];
+		if(bomDecoder == null) {
+			bomDecoder = bomDecoders[bom] = BOM_CHARSETS[bom].newDecoder();
+		}
+		return bomDecoder.onMalformedInput(decoder.malformedInputAction())
+				.onUnmappableCharacter(decoder.unmappableCharacterAction());
+	}
+
+
+	/** Check whether decoding {@code in} using {@code charset} is equivalent to zero extending each byte to a char
+	 */
+	private static boolean canWidenBytes(Charset charset, ByteBuffer in) {
+		return isAsciiCompatible(charset) && (StandardCharsets.ISO_8859_1.equals(charset) || isAscii(in));
+	}
+
+
+	/** Convert each byte from {@code in} to a char (zero extended, equivalent to ISO-8859-1 decoding) and write them to the start of {@code dst}
+	 * @return the number of chars written
+	 */
+	private static int widenBytes(ByteBuffer in, char[] dst) {
+		int pos = in.position();
+		int len = in.remaining();
+		if(in.hasArray()) {
+			byte[] src = in.array();
+			int off = in.arrayOffset() + pos;
+			for(int i = 0; i < len; i++) {
+				dst[i] = (char)(src[off + i] & 0xFF);
+			}
+		}
+		else {
+			for(int i = 0; i < len; i++) {
+				dst[i] = (char)(in.get(pos + i) & 0xFF);
+			}
+		}
+		in.position(pos + len);
+		return len;
+	}
+
+
+	/** Replace {@link #tmpCharBuf} with a larger array containing the chars written to {@code out}
+	 * @return a buffer wrapping the new array positioned after the copied chars
+	 */
+	private CharBuffer growCharBuf(CharBuffer out) {
+		int n = out.capacity();
+		n = (n < 64 ? 64 : 2 * n);
+		char[] buf = setCharBuf(new char[n]);
+		System.arraycopy(out.array(), 0, buf, 0, out.position());
+		CharBuffer res = CharBuffer.wrap(buf);
+		res.position(out.position());
+		return res;
+	}
+
+
+	// ==== read byte[] -> CharSequence ====
+
+	/** Read a {@link File} and return a view of this instance's cached char buffer using the default UTF-8 charset decoder and default buffer chunk size.
+	 * @see #readCharSequence(InputStream, CharsetDecoder, int)
+	 */
+	public CharArrayView readCharSequence(File file) throws IOException {
+		int readCnt = readFileText(file.toPath(), charsetDecoder, defaultChunkSize);
+		return resultView(readCnt);
+	}
+
+
+	/** Read a {@link Path} and return a view of this instance's cached char buffer using the default UTF-8 charset decoder and default buffer chunk size.
+	 * @see #readCharSequence(InputStream, CharsetDecoder, int)
+	 */
+	public CharArrayView readCharSequence(Path path) throws IOException {
+		int readCnt = readFileText(path, charsetDecoder, defaultChunkSize);
+		return resultView(readCnt);
+	}
+
+
+	/** Read an {@link InputStream} and return a view of this instance's cached char buffer using the default UTF-8 charset decoder and default buffer chunk size.
+	 * @see #readCharSequence(InputStream, CharsetDecoder, int)
+	 */
+	public CharArrayView readCharSequence(InputStream is) throws IOException {
+		int readCnt = readText(is, charsetDecoder, defaultChunkSize);
+		return resultView(readCnt);
+	}
+
+
+	/** Read an {@link InputStream} and return a view of this instance's cached char buffer instead of copying the decoded text into a new char[] or String.
+	 * WARNING: the returned view (and any {@link CharArrayView#subSequence(int, int) sub-sequences}) is only valid until the next read using this instance,
+	 * the view object itself is reused by subsequent readCharSequence() calls. Call {@link CharArrayView#toString()} to keep a copy.
+	 * @param is the input stream to read (stream is NOT closed by this method)
+	 * @param decoder the {@link CharsetDecoder} to use
+	 * @param chunkSize the number of bytes to read per chunk from the underlying
+	 * file since the file size is not known
+	 * @return a view of the chars read from the input stream
+	 * @throws IOException
+	 */
+	public CharArrayView readCharSequence(InputStream is, CharsetDecoder decoder, int chunkSize) throws IOException {
+		int readCnt = readText(is, decoder, chunkSize);
+		return resultView(readCnt);
+	}
+
+
+	/** Read a {@link Reader} and return a view of this instance's cached char buffer, valid until the next read using this instance.
+	 * @see #readCharSequence(InputStream, CharsetDecoder, int)
+	 */
+	public CharArrayView readCharSequence(Reader reader) throws IOException {
+		int readCnt = readReader(reader, defaultChunkSize);
+		return resultView(readCnt);
+	}
+
+
+	// ==== read lines ====
+
+	/** Read a {@link File} using the default UTF-8 charset decoder and pass each line to a handler.
+	 * @see #readLines(InputStream, CharsetDecoder, int, LineHandler)
+	 */
+	public int readLines(File file, LineHandler handler) throws IOException {
+		int readCnt = readFileText(file.toPath(), charsetDecoder, defaultChunkSize);
+		return visitLines(readCnt, handler);
+	}
+
+
+	/** Read a {@link Path} using the default UTF-8 charset decoder and pass each line to a handler.
+	 * @see #readLines(InputStream, CharsetDecoder, int, LineHandler)
+	 */
+	public int readLines(Path path, LineHandler handler) throws IOException {
+		int readCnt = readFileText(path, charsetDecoder, defaultChunkSize);
+		return visitLines(readCnt, handler);
+	}
+
+
+	/** Read an {@link InputStream} using the default UTF-8 charset decoder and default buffer chunk size and pass each line to a handler.
+	 * @see #readLines(InputStream, CharsetDecoder, int, LineHandler)
+	 */
+	public int readLines(InputStream is, LineHandler handler) throws IOException {
+		int readCnt = readText(is, charsetDecoder, defaultChunkSize);
+		return visitLines(readCnt, handler);
+	}
+
+
+	/** Read an {@link InputStream} into this instance's cached char buffer and pass each line to a handler.
+	 * Lines are terminated by {@code \n}, {@code \r\n}, or {@code \r}, a terminator at the end of the input does not produce an additional empty line.
+	 * No String or char[] is allocated per line, the handler receives a reused {@link CharArrayView} of the cached char buffer.
+	 * The whole input is decoded into the char cache before the first line is passed to the handler (lines are then split in place
+	 * by {@link #forEachLine(char[], int, int, CharArrayView, LineHandler)}), so memory use is proportional to the decoded input
+	 * like {@link #readChars(InputStream)}, lines are not streamed as chunks are decoded.
+	 * @param is the input stream to read (stream is NOT closed by this method)
+	 * @param decoder the {@link CharsetDecoder} to use
+	 * @param chunkSize the number of bytes to read per chunk from the underlying
+	 * file since the file size is not known
+	 * @param handler the callback to pass each line to
+	 * @return the number of lines passed to the handler
+	 * @throws IOException if there is an error reading the input stream
+	 */
+	public int readLines(InputStream is, CharsetDecoder decoder, int chunkSize, LineHandler handler) throws IOException {
+		int readCnt = readText(is, decoder, chunkSize);
+		return visitLines(readCnt, handler);
+	}
+
+
+	/** Read a {@link Reader} into this instance's cached char buffer and pass each line to a handler.
+	 * @see #readLines(InputStream, CharsetDecoder, int, LineHandler)
+	 */
+	public int readLines(Reader reader, LineHandler handler) throws IOException {
+		int readCnt = readReader(reader, defaultChunkSize);
+		return visitLines(readCnt, handler);
+	}
+
+
+	/** Pass the lines in the first {@code readCnt} chars of {@link #tmpCharBuf} to a handler and apply the cache retention policy
+	 */
+	protected int visitLines(int readCnt, LineHandler handler) {
+		char[] buf = this.tmpCharBuf != null ? this.tmpCharBuf : new char[0];
+		CharArrayView view = this.tmpLineView != null ? this.tmpLineView : (this.tmpLineView = new CharArrayView());
+		try {
+			return forEachLine(buf, 0, readCnt, view, handler);
+		} finally {
+			endRead(readCnt);
+		}
+	}
+
+
+	/** Split a range of a char[] into lines and pass each line to a handler without copying any chars.
+	 * Lines are terminated by {@code \n}, {@code \r\n}, or {@code \r}, a terminator at the end of the range does not produce an additional empty line.
+	 * @param buf the chars to split
+	 * @param off the offset of the first char in {@code buf} to split
+	 * @param len the number of chars to split
+	 * @param view the view to point at each line and pass to the handler
+	 * @param handler the callback to pass each line to, returning false stops the split
+	 * @return the number of lines passed to the handler
+	 */
+	public static int forEachLine(char[] buf, int off, int len, CharArrayView view, LineHandler handler) {
+		int end = off + len;
+		int lineStart = off;
+		int lineIdx = 0;
+		for(int i = off; i < end; i++) {
+			char ch = buf[i];
+			if(ch <= '\r' && (ch == '\n' || ch == '\r')) {
+				if(!handler.line(view.set(buf, lineStart, i - lineStart), lineIdx++)) {
+					return lineIdx;
+				}
+				if(ch == '\r' && i + 1 < end && buf[i + 1] == '\n') {
+					i++;
+				}
+				lineStart = i + 1;
+			}
+		}
+		if(lineStart < end) {
+			handler.line(view.set(buf, lineStart, end - lineStart), lineIdx++);
+		}
+		return lineIdx;
+	}
+
+
 	// ==== read char[]/String ====
 
 	public char[] readChars(Reader reader) throws IOException {
 		int readCnt = readReader(reader, defaultChunkSize);
-		return copyBuffer(this.tmpCharBuf, readCnt);
+		return resultChars(readCnt);
 	}
 
 
@@ -350,19 +1310,19 @@ public class FileReadUtil {
 	 */
 	public char[] readChars(Reader reader, int chunkSize) throws IOException {
 		int readCnt = readReader(reader, chunkSize);
-		return copyBuffer(this.tmpCharBuf, readCnt);
+		return resultChars(readCnt);
 	}
 
 
 	public String readString(Reader reader) throws IOException {
 		int readCnt = readReader(reader, defaultChunkSize);
-		return new String(this.tmpCharBuf, 0, readCnt);
+		return resultString(readCnt);
 	}
 
 
 	public String readString(Reader reader, int chunkSize) throws IOException {
 		int readCnt = readReader(reader, chunkSize);
-		return new String(this.tmpCharBuf, 0, readCnt);
+		return resultString(readCnt);
 	}
 
 
@@ -377,6 +1337,7 @@ public class FileReadUtil {
 		if(chunkSize < 2) {
 			throw new IllegalArgumentException("chunkSize must be greater than 1");
 		}
+		long startNanos = System.nanoTime();
 		int totalSize = 0;
 		int variableChunkSize = chunkSize;
 
@@ -416,33 +1377,174 @@ public class FileReadUtil {
 			}
 		}
 
-		return totalSize < 0 ? 0 : totalSize;
+		totalSize = totalSize < 0 ? 0 : totalSize;
+		opChars += totalSize;
+		opReadNanos += System.nanoTime() - startNanos;
+		return totalSize;
 	}
 
 
 	// ==== helpers ====
 
+	/** Map the first {@code size} bytes of a file channel as a read-only {@link MappedByteBuffer}, the mapping remains valid after the channel is closed
+	 */
+	protected static MappedByteBuffer mapChannel(FileChannel ch, long size, Path path) throws IOException {
+		if(size > MAX_ARRAY_SIZE) {
+			throw new IOException("file too large to map (" + size + " bytes): " + path);
+		}
+		return ch.map(FileChannel.MapMode.READ_ONLY, 0, size);
+	}
+
+
 	public void readTo(InputStream is, StringBuilder dst) throws IOException {
 		int readCnt = readText(is, charsetDecoder, defaultChunkSize);
 		dst.append(this.tmpCharBuf, 0, readCnt);
+		endRead(readCnt);
 	}
 
 
 	public void readTo(InputStream is, Writer dst) throws IOException {
 		int readCnt = readText(is, charsetDecoder, defaultChunkSize);
 		dst.write(this.tmpCharBuf, 0, readCnt);
+		endRead(readCnt);
 	}
 
 
 	public void readTo(Reader reader, StringBuilder dst) throws IOException {
 		int readCnt = readReader(reader, defaultChunkSize);
 		dst.append(this.tmpCharBuf, 0, readCnt);
+		endRead(readCnt);
 	}
 
 
 	public void readTo(Reader reader, Writer dst) throws IOException {
 		int readCnt = readReader(reader, defaultChunkSize);
 		dst.write(this.tmpCharBuf, 0, readCnt);
+		endRead(readCnt);
+	}
+
+
+	/** Copy the first {@code readCnt} bytes of {@link #tmpByteBuf} into a new array and apply the cache retention policy
+	 */
+	protected byte[] resultBytes(int readCnt) {
+		byte[] res = copyBuffer(this.tmpByteBuf, readCnt);
+		endRead(0);
+		return res;
+	}
+
+
+	/** Copy the first {@code readCnt} chars of {@link #tmpCharBuf} into a new array and apply the cache retention policy
+	 */
+	protected char[] resultChars(int readCnt) {
+		char[] res = copyBuffer(this.tmpCharBuf, readCnt);
+		endRead(readCnt);
+		return res;
+	}
+
+
+	/** Copy the first {@code readCnt} chars of {@link #tmpCharBuf} into a new String and apply the cache retention policy
+	 */
+	protected String resultString(int readCnt) {
+		String res = new String(this.tmpCharBuf, 0, readCnt);
+		endRead(readCnt);
+		return res;
+	}
+
+
+	/** Point {@link #tmpCharView} at the first {@code readCnt} chars of {@link #tmpCharBuf} and apply the cache retention policy.
+	 * If the policy replaces {@link #tmpCharBuf}, the view keeps referencing the original array until the next read.
+	 */
+	protected CharArrayView resultView(int readCnt) {
+		CharArrayView res = charView(readCnt);
+		endRead(readCnt);
+		return res;
+	}
+
+
+	/** Apply the cache retention policy once a read is done using the cached buffers
+	 * @param charsUsed the number of chars used in {@link #tmpCharBuf} by the read
+	 */
+	protected void endRead(int charsUsed) {
+		recordMetrics();
+
+		int bytesUsed = this.lastByteUse;
+		this.lastByteUse = 0;
+
+		if(shrinkAfterReads > 0) {
+			byteWindowHighWater = Math.max(byteWindowHighWater, bytesUsed);
+			charWindowHighWater = Math.max(charWindowHighWater, charsUsed);
+			if(++retentionWindowReads >= shrinkAfterReads) {
+				int byteSize = Math.max(byteWindowHighWater, defaultChunkSize);
+				if(tmpByteBuf != null && tmpByteBuf.length > 2 * (long)byteSize) {
+					tmpByteBuf = new byte[byteSize];
+					cacheShrinkCount++;
+				}
+				int charSize = Math.max(charWindowHighWater, defaultChunkSize);
+				if(tmpCharBuf != null && tmpCharBuf.length > 2 * (long)charSize) {
+					tmpCharBuf = new char[charSize];
+					cacheShrinkCount++;
+				}
+				retentionWindowReads = 0;
+				byteWindowHighWater = 0;
+				charWindowHighWater = 0;
+			}
+		}
+
+		if(getRetainedBytes() > maxRetainedBytes) {
+			if(tmpByteBuf != null) {
+				tmpByteBuf = null;
+				cacheShrinkCount++;
+			}
+			if(tmpCharBuf != null && getRetainedBytes() > maxRetainedBytes) {
+				tmpCharBuf = null;
+				cacheShrinkCount++;
+			}
+			if(tmpDirectBuf != null && getRetainedBytes() > maxRetainedBytes) {
+				tmpDirectBuf = null;
+				cacheShrinkCount++;
+			}
+		}
+	}
+
+
+	/** Add the current read's totals to this instance's metrics and {@link #metrics}, then reset them for the next read
+	 */
+	private void recordMetrics() {
+		readCount++;
+		bytesRead += opBytes;
+		charsDecoded += opChars;
+		readNanos += opReadNanos;
+		decodeNanos += opDecodeNanos;
+		if(sizeHistogram == null) {
+			sizeHistogram = new long[FileReadMetrics.SIZE_BUCKETS];
+		}
+		sizeHistogram[FileReadMetrics.sizeBucket(opBytes != 0 ? opBytes : opChars)]++;
+
+		FileReadMetrics shared = this.metrics;
+		if(shared != null) {
+			shared.record(opBytes, opChars, opReadNanos, opDecodeNanos);
+		}
+		opBytes = 0;
+		opChars = 0;
+		opReadNanos = 0;
+		opDecodeNanos = 0;
+	}
+
+
+	/**
+	 * @return the number of bytes retained by this instance's cached buffers (chars count as 2 bytes, includes the direct buffer)
+	 */
+	protected long getRetainedBytes() {
+		return (tmpByteBuf != null ? tmpByteBuf.length : 0) + (tmpCharBuf != null ? 2L * tmpCharBuf.length : 0) + (tmpDirectBuf != null ? tmpDirectBuf.capacity() : 0);
+	}
+
+
+	/** Point the reusable {@link #tmpCharView} at the first {@code readCnt} chars of {@link #tmpCharBuf}
+	 */
+	protected CharArrayView charView(int readCnt) {
+		char[] buf = this.tmpCharBuf != null ? this.tmpCharBuf : new char[0];
+		CharArrayView view = this.tmpCharView;
+		return view != null ? view.set(buf, 0, readCnt) : (this.tmpCharView = new CharArrayView(buf, 0, readCnt));
 	}
 
 
@@ -470,6 +1572,18 @@ public class FileReadUtil {
 	}
 
 
+	protected ByteBuffer setDirectBuf(ByteBuffer buf) {
+		directBufResizeCount++;
+		tmpDirectBuf = buf;
+		return buf;
+	}
+
+
+	protected ByteBuffer getDirectBuf(int size) {
+		return (tmpDirectBuf != null && tmpDirectBuf.capacity() >= size) ? tmpDirectBuf : setDirectBuf(ByteBuffer.allocateDirect(size));
+	}
+
+
 	/** Returns a new byte[] copy of {@code buffer} trimmed to the specified size
 	 * Slightly simpler implementation than {@link Arrays#copyOf(byte[], int)}.
 	 */
@@ -490,6 +1604,95 @@ public class FileReadUtil {
 	}
 
 
+	/** Detect a byte order mark which should be skipped when decoding a buffer using the specified charset.
+	 * UTF-16 and UTF-32 BOMs are only detected for Unicode charsets, a UTF-8 BOM is detected for any charset.
+	 * @param in the buffer to check, the buffer's position is not modified
+	 * @param charset the charset the caller is decoding with
+	 * @return one of the {@code BOM_*} constants or -1 if the buffer does not start with a BOM which applies to {@code charset}
+	 */
+	static int detectBom(ByteBuffer in, Charset charset) {
+		int bom = detectBom(in);
+		return (bom == BOM_UTF8 || isUnicode(charset)) ? bom : -1;
+	}
+
+
+	/** Detect a byte order mark at a buffer's position
+	 * @param in the buffer to check, the buffer's position is not modified
+	 * @return one of the {@code BOM_*} constants or -1 if the buffer does not start with a UTF-8, UTF-16, or UTF-32 BOM
+	 */
+	static int detectBom(ByteBuffer in) {
+		int pos = in.position();
+		int rem = in.remaining();
+		if(rem < 2) {
+			return -1;
+		}
+		byte b0 = in.get(pos);
+		byte b1 = in.get(pos + 1);
+		if(rem > 3) {
+			byte b2 = in.get(pos + 2);
+			byte b3 = in.get(pos + 3);
+			if(b0 == 0 && b1 == 0 && b2 == (byte)0xFE && b3 == (byte)0xFF) {
+				return BOM_UTF32BE;
+			}
+			if(b0 == (byte)0xFF && b1 == (byte)0xFE && b2 == 0 && b3 == 0) {
+				return BOM_UTF32LE;
+			}
+		}
+		if(rem > 2 && b0 == (byte)0xEF && b1 == (byte)0xBB && in.get(pos + 2) == (byte)0xBF) {
+			return BOM_UTF8;
+		}
+		if(b0 == (byte)0xFE && b1 == (byte)0xFF) {
+			return BOM_UTF16BE;
+		}
+		if(b0 == (byte)0xFF && b1 == (byte)0xFE) {
+			return BOM_UTF16LE;
+		}
+		return -1;
+	}
+
+
+	/** Check whether all of the bytes between a buffer's position and limit are ASCII (less than 0x80).
+	 * Blocks of 8 byte words are OR'ed together without branching so the inner loop can be vectorized.
+	 * @param buf the buffer to check, the buffer's position is not modified
+	 * @return true if the buffer contains only ASCII bytes
+	 */
+	public static boolean isAscii(ByteBuffer buf) {
+		int i = buf.position();
+		int end = buf.limit();
+		int wordsEnd = end - ((end - i) & 7);
+		while(i < wordsEnd) {
+			int blockEnd = Math.min(i + 512, wordsEnd);
+			long bits = 0;
+			for(; i < blockEnd; i += 8) {
+				bits |= buf.getLong(i);
+			}
+			if((bits & 0x8080808080808080L) != 0) {
+				return false;
+			}
+		}
+		for(; i < end; i++) {
+			if(buf.get(i) < 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+
+	/** Check whether a charset is one of the Unicode UTF-8, UTF-16, or UTF-32 encodings, which a BOM may override
+	 */
+	static boolean isUnicode(Charset charset) {
+		return charset.name().startsWith("UTF-");
+	}
+
+
+	/** Check whether ASCII bytes (0x00 to 0x7F) decode to the same char values using the specified charset
+	 */
+	public static boolean isAsciiCompatible(Charset charset) {
+		return StandardCharsets.UTF_8.equals(charset) || StandardCharsets.US_ASCII.equals(charset) || StandardCharsets.ISO_8859_1.equals(charset);
+	}
+
+
 	/** Return a buffer size increased incrementally up to MAX_CHUNK_SIZE
 	 */
 	public static int increaseChunkSize(int currentChunkSize, int originalChunkSize) {
@@ -527,7 +1730,8 @@ public class FileReadUtil {
 				break;
 			}
 			if (cr.isOverflow()) {
-				n = (n < 64 ? 64 : 2 * n); // don't mess with small buffers < 64 bytes
+				// grow enough to hold the rest of the input at the decoder's max chars-per-byte so at most one resize is needed
+				n = out.capacity() + Math.max(64, (int)Math.ceil(in.remaining() * (double)decoder.maxCharsPerByte()) + 16);
 				CharBuffer outNew = CharBuffer.allocate(n);
 				out.flip();
 				outNew.put(out);
@@ -548,6 +1752,24 @@ public class FileReadUtil {
 	}
 
 
+	/** Set the default file size (in bytes) at or above which {@link File} and {@link Path} reads are memory mapped
+	 * for all {@link #FileReadUtil()} no-arg constructor calls.
+	 * @see #setMappedReadThreshold(long)
+	 */
+	public static void setDefaultMappedReadThreshold(long mappedReadThreshold) {
+		FileReadUtil.staticDefaultMappedReadThreshold = mappedReadThreshold;
+	}
+
+
+	/** Set the default cache retention policy for all {@link #FileReadUtil()} no-arg constructor calls.
+	 * @see #setRetentionPolicy(long, int)
+	 */
+	public static void setDefaultRetentionPolicy(long maxRetainedBytes, int shrinkAfterReads) {
+		FileReadUtil.staticDefaultMaxRetainedBytes = maxRetainedBytes;
+		FileReadUtil.staticDefaultShrinkAfterReads = shrinkAfterReads;
+	}
+
+
 	/** Set the default {@link Charset} text decoding for all {@link #FileReadUtil()} no-arg constructor calls, if null 'UTF-8' is used.
 	 */
 	public static void setDefaultCharset(Charset cs) {
@@ -568,40 +1790,164 @@ public class FileReadUtil {
 	public class Stats {
 
 		public int getCharCacheSize() {
-			return tmpCharBuf.length;
+			return tmpCharBuf != null ? tmpCharBuf.length : 0;
 		}
 
 
 		public int getByteCacheSize() {
-			return tmpByteBuf.length;
+			return tmpByteBuf != null ? tmpByteBuf.length : 0;
 		}
 
 
-		public int getByteReadCount() {
+		/**
+		 * @return the capacity of the direct (off-heap) buffer used by the readDirect() methods
+		 */
+		public int getDirectCacheSize() {
+			return tmpDirectBuf != null ? tmpDirectBuf.capacity() : 0;
+		}
+
+
+		/**
+		 * @return the number of bytes retained by the byte, char, and direct caches (chars count as 2 bytes)
+		 */
+		public long getRetainedCacheBytes() {
+			return getRetainedBytes();
+		}
+
+
+		/**
+		 * @return the number of times a cache was shrunk or released by the cache retention policy
+		 */
+		public long getCacheShrinkCount() {
+			return cacheShrinkCount;
+		}
+
+
+		public long getByteReadCount() {
 			return totalByteReads;
 		}
 
 
-		public int getCharReadCount() {
+		public long getCharReadCount() {
 			return totalCharReads;
 		}
 
 
-		public int getByteCacheResizeCount() {
+		public long getByteCacheResizeCount() {
 			return byteBufResizeCount;
 		}
 
 
-		public int getCharCacheResizeCount() {
+		public long getDirectCacheResizeCount() {
+			return directBufResizeCount;
+		}
+
+
+		public long getCharCacheResizeCount() {
 			return charBufResizeCount;
 		}
 
 
+		/**
+		 * @return the number of times a {@link CharsetDecoder} was used to decode a buffer into the char cache
+		 */
+		public long getDecodeCount() {
+			return decodeCount;
+		}
+
+
+		/**
+		 * @return the number of decodes where the estimated decoded size was too small and the char cache had to be resized during decoding
+		 */
+		public long getDecodeEstimateMissCount() {
+			return decodeEstimateMissCount;
+		}
+
+
+		/**
+		 * @return the number of completed reads (including reads from cached data such as readLines() and readCharSequence())
+		 */
+		public long getReadCount() {
+			return readCount;
+		}
+
+
+		/**
+		 * @return the total number of bytes read from files and streams
+		 */
+		public long getBytesRead() {
+			return bytesRead;
+		}
+
+
+		/**
+		 * @return the total number of chars decoded from bytes or read from {@link Reader}s
+		 */
+		public long getCharsDecoded() {
+			return charsDecoded;
+		}
+
+
+		/**
+		 * @return the total nanoseconds spent reading bytes/chars from files, streams, and readers
+		 */
+		public long getReadNanos() {
+			return readNanos;
+		}
+
+
+		/**
+		 * @return the total nanoseconds spent decoding bytes into chars
+		 */
+		public long getDecodeNanos() {
+			return decodeNanos;
+		}
+
+
+		/**
+		 * @return a copy of this instance's read size histogram
+		 * @see FileReadMetrics#getSizeHistogram()
+		 */
+		public long[] getSizeHistogram() {
+			return sizeHistogram != null ? sizeHistogram.clone() : new long[FileReadMetrics.SIZE_BUCKETS];
+		}
+
+
+		/**
+		 * @return the stream read size (in bytes) which the initial buffer of stream reads is sized for, learned from recent stream reads, 0 if nothing has been learned
+		 * @see FileReadUtil#setAdaptiveChunkSize(boolean)
+		 */
+		public int getLearnedReadSize() {
+			return FileReadUtil.this.getLearnedReadSize();
+		}
+
+
+		/**
+		 * @return the minimum number of bytes stream read buffers grow by, based on {@link #getLearnedReadSize()} and the default chunk size
+		 */
+		public int getLearnedChunkSize() {
+			return Math.max(defaultChunkSize, Math.min(FileReadUtil.this.getLearnedReadSize() >>> 2, MAX_CHUNK_SIZE));
+		}
+
+
+		/**
+		 * @return the number of stream read sizes recorded to learn from
+		 */
+		public int getReadSizeHistoryCount() {
+			return Math.min(readSizeHistoryCount, READ_SIZE_HISTORY);
+		}
+
+
 		@Override
 		public String toString() {
 			return "FileReadUtilStats: { " +
-					"byteCache: { size: " + (tmpByteBuf != null ? tmpByteBuf.length : 0) + ", readCount: " + totalByteReads + ", cacheResizes: " + byteBufResizeCount + " }, " +
-					"charCache: { size: " + (tmpCharBuf != null ? tmpCharBuf.length : 0) + ", readCount: " + totalCharReads + ", cacheResizes: " + charBufResizeCount + " } }";
+					"byteCache: { size: " + (tmpByteBuf != null ? tmpByteBuf.length : 0) + ", directSize: " + (tmpDirectBuf != null ? tmpDirectBuf.capacity() : 0) +
+						", readCount: " + totalByteReads + ", cacheResizes: " + byteBufResizeCount + ", directResizes: " + directBufResizeCount + " }, " +
+					"charCache: { size: " + (tmpCharBuf != null ? tmpCharBuf.length : 0) + ", readCount: " + totalCharReads + ", cacheResizes: " + charBufResizeCount +
+						", decodes: " + decodeCount + ", decodeEstimateMisses: " + decodeEstimateMissCount + " }, " +
+					"learnedReadSize: " + FileReadUtil.this.getLearnedReadSize() + ", " +
+					"reads: " + readCount + ", bytesRead: " + bytesRead + ", charsDecoded: " + charsDecoded + ", readNanos: " + readNanos + ", decodeNanos: " + decodeNanos + ", " +
+					"retainedBytes: " + getRetainedBytes() + ", cacheShrinks: " + cacheShrinkCount + " }";
 		}
 
 	}
@@ -19,8 +19,28 @@ import java.net.URL;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.PosixFileAttributeView;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
 
 /** A utility class for basic file I/O tasks such as reading the contents of an input stream
  * or recursively find all files in a directory, or shorthand methods for created buffered
@@ -43,6 +63,7 @@ public final class FileUtil {
 	 * @param oldFilePath the destination file to overwrite with the contents of the source file
 	 * @throws IOException if there is an error opening either of the files or copying the source file's
 	 * contents into the destination file
+	 * @see #replaceFile(Path, Path, boolean) to replace a file atomically
 	 */
 	@SuppressWarnings("resource")
 	public static void overwriteFile(final String newFilePath, final String oldFilePath) throws IOException {
@@ -83,6 +104,128 @@ public final class FileUtil {
 	}
 
 
+	/** Atomically replace (or create) a file with new contents.
+	 * The contents are written to a temp file in the same directory which is then renamed over the target file using
+	 * {@link StandardCopyOption#ATOMIC_MOVE}, so concurrent readers see either the old or the new contents, never a partially written file.
+	 * If the target already exists, its POSIX permissions (where supported) are copied to the new file.
+	 * If the target is a symbolic link, the file it resolves to is replaced and the link is left in place (a dangling link is replaced by a regular file).
+	 * @param target the file to replace
+	 * @param content the new file contents
+	 * @param force true to {@link FileChannel#force(boolean) fsync} the new contents before the rename and (best effort) the directory after it,
+	 * so that the replace is durable across a crash, false to leave flushing to the OS
+	 * @throws java.nio.file.AtomicMoveNotSupportedException if the file system does not support atomic renames, the target is left unchanged
+	 * @throws IOException if there is an error writing the temp file or renaming it, the target is left unchanged
+	 */
+	public static void replaceFile(Path target, byte[] content, boolean force) throws IOException {
+		replaceFile(target, force, (ch) -> {
+			ByteBuffer buf = ByteBuffer.wrap(content);
+			while(buf.hasRemaining()) {
+				ch.write(buf);
+			}
+		});
+	}
+
+
+	/** Atomically replace (or create) a file with new text contents using {@link FileWriteUtil#threadLocalInst()} to encode the text
+	 * @see #replaceFile(Path, byte[], boolean)
+	 */
+	public static void replaceFile(Path target, CharSequence text, Charset charset, boolean force) throws IOException {
+		replaceFile(target, force, (ch) -> FileWriteUtil.threadLocalInst().write(ch, text, charset));
+	}
+
+
+	/** Atomically replace (or create) a file with a copy of another file.
+	 * The copy uses {@link FileChannel#transferTo(long, long, java.nio.channels.WritableByteChannel)}, which lets the JDK use an
+	 * in-kernel copy (i.e. {@code sendfile} on Linux) instead of copying through heap buffers.
+	 * @param target the file to replace
+	 * @param source the file to copy
+	 * @see #replaceFile(Path, byte[], boolean)
+	 */
+	public static void replaceFile(Path target, Path source, boolean force) throws IOException {
+		try(FileChannel src = FileChannel.open(source, StandardOpenOption.READ)) {
+			replaceFile(target, force, (ch) -> {
+				long size = src.size();
+				long pos = 0;
+				while(pos < size) {
+					long cnt = src.transferTo(pos, size - pos, ch);
+					// the source shrank while being copied
+					if(cnt <= 0 && src.size() <= pos) {
+						break;
+					}
+					pos += cnt;
+				}
+			});
+		}
+	}
+
+
+	private static void replaceFile(Path target, boolean force, ChannelWriter writer) throws IOException {
+		// replace the file a symbolic link points to rather than the link itself
+		Path absTarget;
+		try {
+			absTarget = target.toRealPath();
+		} catch(NoSuchFileException e) {
+			absTarget = target.toAbsolutePath();
+		}
+		Path dir = absTarget.getParent();
+		Path tmp = null;
+		FileChannel ch = null;
+		// create the temp file with default permissions (unlike Files.createTempFile() which restricts them to the owner)
+		for(int attempt = 0; ch == null; attempt++) {
+			tmp = dir.resolve("." + absTarget.getFileName() + "." + Long.toHexString(ThreadLocalRandom.current().nextLong()) + ".tmp");
+			try {
+				ch = FileChannel.open(tmp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+			} catch(FileAlreadyExistsException e) {
+				if(attempt >= 9) {
+					throw e;
+				}
+			}
+		}
+
+		boolean success = false;
+		try {
+			try {
+				writer.write(ch);
+				if(force) {
+					ch.force(true);
+				}
+			} finally {
+				ch.close();
+			}
+			copyPermissions(absTarget, tmp);
+			Files.move(tmp, absTarget, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			success = true;
+		} finally {
+			if(!success) {
+				Files.deleteIfExists(tmp);
+			}
+		}
+
+		if(force) {
+			// persist the rename, not supported on all platforms (i.e. directories can't be opened on Windows)
+			try(FileChannel dirCh = FileChannel.open(dir, StandardOpenOption.READ)) {
+				dirCh.force(true);
+			} catch(IOException e) {
+				// best effort
+			}
+		}
+	}
+
+
+	private static void copyPermissions(Path src, Path dst) throws IOException {
+		PosixFileAttributeView srcAttrs = Files.getFileAttributeView(src, PosixFileAttributeView.class);
+		if(srcAttrs != null && Files.exists(src)) {
+			Files.setPosixFilePermissions(dst, srcAttrs.readAttributes().permissions());
+		}
+	}
+
+
+	@FunctionalInterface
+	private static interface ChannelWriter {
+		public void write(FileChannel ch) throws IOException;
+	}
+
+
 	/** Convert a local file path to a {@link URL}
 	 * @param path the local file path to parse into a URL
 	 * @return the URL corresponding to the specified file/folder path
@@ -114,6 +257,7 @@ public final class FileUtil {
 	 * @param charset the charset to decode the file contents
 	 * @return the buffered reader from the file
 	 * @throws FileNotFoundException if the file could not be opened
+	 * @see FileWriteUtil for writing many files without allocating a writer, encoder, and buffers per file
 	 */
 	public static final BufferedWriter writerBuffered(final File file, final Charset charset)
 			throws FileNotFoundException {
@@ -141,6 +285,7 @@ public final class FileUtil {
 	 * @param file the file to open
 	 * @return the buffered output stream from the file
 	 * @throws FileNotFoundException if the file could not be opened
+	 * @see FileWriteUtil for writing many files without allocating a stream and buffer per file
 	 */
 	public static final BufferedOutputStream outputStreamBuffered(final File file) throws FileNotFoundException {
 		BufferedOutputStream output = new BufferedOutputStream(new FileOutputStream(file));
@@ -170,6 +315,7 @@ public final class FileUtil {
 	 * false to append to the end of the file
 	 * @param recursively if {@code dirFile} is a directory, true recursively appends the string content to
 	 * all sub files, false appends content to only the files in the specified directory
+	 * @see #appendToFiles(Path, String, String, Charset, boolean, boolean, Executor, int, AppendProgress) for large directory trees
 	 */
 	public static final void appendToFiles(final File dirFile, final String fileNameSuffix, final String content, final Charset charset,
 			final boolean beginning, final boolean recursively) {
@@ -200,6 +346,138 @@ public final class FileUtil {
 	}
 
 
+	/** Append the specified string to the beginning or end of all files in the specified directory in parallel.
+	 * Files are passed to the executor as the directory tree is walked (the tree is not collected into a list first)
+	 * and at most {@code parallelism} files are processed at once, the walk waits for a free worker.
+	 * Errors do not stop the walk, they are reported to {@code progress} and collected in the returned result.
+	 * An exception thrown by {@code progress} is also collected in the result as a failure of the file being reported.
+	 * Symbolic links are followed (like the {@link File} overload), a link cycle is reported as a
+	 * {@link java.nio.file.FileSystemLoopException} error for the linked directory.
+	 * @param dir the file or directory of files to append {@code contents} to.
+	 * If it is a directory, then append the string to all files in the directory and (if {@code recursively}) to all files
+	 * in all sub-directories recursively
+	 * @param fileNameSuffix only modify files whose names end with this suffix, null to modify all files
+	 * @param content the string to append to the files
+	 * @param charset the charset to use when convert {@code content} to bytes
+	 * @param beginning true to append {@code content} to the beginning of each file (empty files are skipped),
+	 * false to append to the end of each file
+	 * @param recursively if {@code dir} is a directory, true recursively appends the string content to
+	 * all sub files, false appends content to only the files in the specified directory
+	 * @param executor the executor to modify files on, if it rejects a file the walking thread modifies the file itself
+	 * @param parallelism the maximum number of files being modified at once, must be greater than 0
+	 * @param progress optional callback called after each file is modified, skipped, or fails, called from the executor's threads
+	 * (or the walking thread for files and directories which could not be walked)
+	 * @return the number of files modified and skipped and the files which could not be modified or walked
+	 * @throws InterruptedException if the calling thread is interrupted while waiting for a worker,
+	 * the walk stops and files already passed to the executor are finished before this is thrown
+	 */
+	public static final AppendResult appendToFiles(final Path dir, final String fileNameSuffix, final String content, final Charset charset,
+			final boolean beginning, final boolean recursively, final Executor executor, final int parallelism, final AppendProgress progress) throws InterruptedException {
+		if(parallelism < 1) {
+			throw new IllegalArgumentException("parallelism must be greater than 0");
+		}
+		byte[] contentBytes = content.getBytes(charset);
+		Semaphore workers = new Semaphore(parallelism);
+		AtomicLong filesDone = new AtomicLong();
+		AtomicLong modifiedCount = new AtomicLong();
+		AtomicLong skippedCount = new AtomicLong();
+		Map<Path, Exception> failures = new ConcurrentHashMap<>();
+		InterruptedException[] interrupted = { null };
+
+		SimpleFileVisitor<Path> visitor = new SimpleFileVisitor<Path>() {
+			@Override
+			public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+				if(!attrs.isRegularFile() || (fileNameSuffix != null && !file.getFileName().toString().endsWith(fileNameSuffix))) {
+					return FileVisitResult.CONTINUE;
+				}
+				try {
+					workers.acquire();
+				} catch(InterruptedException e) {
+					interrupted[0] = e;
+					return FileVisitResult.TERMINATE;
+				}
+				Runnable task = () -> {
+					try {
+						Exception error = null;
+						try {
+							if(appendToFile(file, contentBytes, beginning)) {
+								modifiedCount.incrementAndGet();
+							}
+							else {
+								skippedCount.incrementAndGet();
+							}
+						} catch(IOException | RuntimeException e) {
+							error = e;
+							failures.put(file, e);
+						}
+						reportProgress(progress, file, error, filesDone, failures);
+					} finally {
+						workers.release();
+					}
+				};
+				try {
+					executor.execute(task);
+				} catch(RejectedExecutionException e) {
+					task.run();
+				}
+				return FileVisitResult.CONTINUE;
+			}
+
+			@Override
+			public FileVisitResult visitFileFailed(Path file, IOException exc) {
+				failures.put(file, exc);
+				reportProgress(progress, file, exc, filesDone, failures);
+				return FileVisitResult.CONTINUE;
+			}
+
+			@Override
+			public FileVisitResult postVisitDirectory(Path dir, IOException exc) {
+				if(exc != null) {
+					failures.put(dir, exc);
+					reportProgress(progress, dir, exc, filesDone, failures);
+				}
+				return FileVisitResult.CONTINUE;
+			}
+		};
+
+		try {
+			Files.walkFileTree(dir, EnumSet.of(FileVisitOption.FOLLOW_LINKS), recursively ? Integer.MAX_VALUE : 1, visitor);
+		} catch(IOException e) {
+			failures.put(dir, e);
+			reportProgress(progress, dir, e, filesDone, failures);
+		} finally {
+			// wait for the files already passed to the executor
+			workers.acquireUninterruptibly(parallelism);
+		}
+
+		if(interrupted[0] != null) {
+			throw interrupted[0];
+		}
+		return new AppendResult(modifiedCount.get(), skippedCount.get(), failures);
+	}
+
+
+	/** Count a finished file and pass it to a progress callback, an exception thrown by the callback is recorded as a failure of {@code file}
+	 * (suppressed by the file's own error if it has one) instead of stopping the walk or being lost on an executor thread
+	 */
+	private static void reportProgress(AppendProgress progress, Path file, Exception error, AtomicLong filesDone, Map<Path, Exception> failures) {
+		long done = filesDone.incrementAndGet();
+		if(progress == null) {
+			return;
+		}
+		try {
+			progress.fileDone(file, error, done);
+		} catch(RuntimeException e) {
+			if(error != null) {
+				error.addSuppressed(e);
+			}
+			else {
+				failures.put(file, e);
+			}
+		}
+	}
+
+
 	/** returns a file's extension/type, excluding the extension separator (by default a period '.')
 	 * @param file the file name with extension
 	 * @return the file extension as a string or null if the file extension cannot be identified
@@ -286,6 +564,39 @@ public final class FileUtil {
 	}
 
 
+	/** Append bytes to the beginning or end of a file
+	 * @return true if the file was modified, false if the file was empty and {@code beginning} is true
+	 */
+	private static boolean appendToFile(final Path file, final byte[] content, final boolean beginning) throws IOException {
+		long fileSize = Files.size(file);
+		if(fileSize > MAX_FILE_SIZE) {
+			throw new IOException(file + " larger than max file size of " + MAX_FILE_SIZE + ", cannot modify file");
+		}
+		if(beginning) {
+			// not FileReadUtil.threadLocalInst(), this runs on executor threads which would each keep a file sized cache after the walk
+			byte[] fileContents = Files.readAllBytes(file);
+			if(fileContents.length < 1) {
+				return false;
+			}
+			try(FileChannel ch = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+				ByteBuffer[] bufs = { ByteBuffer.wrap(content), ByteBuffer.wrap(fileContents) };
+				while(bufs[1].hasRemaining()) {
+					ch.write(bufs);
+				}
+			}
+		}
+		else {
+			try(FileChannel ch = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+				ByteBuffer buf = ByteBuffer.wrap(content);
+				while(buf.hasRemaining()) {
+					ch.write(buf);
+				}
+			}
+		}
+		return true;
+	}
+
+
 	/** Append the specified byte buffer to the end of the specified file
 	 * @param file the file to append the byte buffer to
 	 * @param contents the byte buffer append to the end of the file.
@@ -323,12 +634,9 @@ public final class FileUtil {
 	 */
 	private static final void appendToBeginning(final File file, final byte[] contents,
 			final int offset, final int length) {
-		InputStream input = null;
 		OutputStream output = null;
 		try {
-			input = new FileInputStream(file);
-			byte[] fileContents = FileReadUtil.threadLocalInst().readBytes(input);
-			input.close();
+			byte[] fileContents = Files.readAllBytes(file.toPath());
 
 			if(fileContents.length < 1) {
 				return;
@@ -343,13 +651,6 @@ public final class FileUtil {
 		} catch (IOException e) {
 			e.printStackTrace();
 		} finally {
-			if(input != null) {
-				try {
-					input.close();
-				} catch (IOException e) {
-					e.printStackTrace();
-				}
-			}
 			if(output != null) {
 				try {
 					output.close();
@@ -360,4 +661,71 @@ public final class FileUtil {
 		}
 	}
 
+
+	/** Receives progress updates from {@link FileUtil#appendToFiles(Path, String, String, Charset, boolean, boolean, Executor, int, AppendProgress)}
+	 */
+	@FunctionalInterface
+	public static interface AppendProgress {
+
+		/** Called after each file is modified, skipped, or fails, possibly from multiple threads at once
+		 * @param file the file
+		 * @param error the error which occurred modifying or walking {@code file}, null if successful
+		 * @param filesDone the number of files finished so far (including failures) including this one
+		 */
+		public void fileDone(Path file, Exception error, long filesDone);
+
+	}
+
+
+	/** The result of {@link FileUtil#appendToFiles(Path, String, String, Charset, boolean, boolean, Executor, int, AppendProgress)}
+	 */
+	public static final class AppendResult {
+		private final long modifiedCount;
+		private final long skippedCount;
+		private final Map<Path, Exception> failures;
+
+
+		public AppendResult(long modifiedCount, long skippedCount, Map<Path, Exception> failures) {
+			this.modifiedCount = modifiedCount;
+			this.skippedCount = skippedCount;
+			this.failures = Collections.unmodifiableMap(failures);
+		}
+
+
+		/**
+		 * @return the number of files modified
+		 */
+		public long getModifiedCount() {
+			return modifiedCount;
+		}
+
+
+		/**
+		 * @return the number of empty files which were not modified by a prepend
+		 */
+		public long getSkippedCount() {
+			return skippedCount;
+		}
+
+
+		/**
+		 * @return the files and directories which could not be modified or walked and the error for each
+		 */
+		public Map<Path, Exception> getFailures() {
+			return failures;
+		}
+
+
+		public boolean isSuccess() {
+			return failures.isEmpty();
+		}
+
+
+		@Override
+		public String toString() {
+			return "FileUtil.AppendResult: { modified: " + modifiedCount + ", skipped: " + skippedCount + ", failures: " + failures.size() + " }";
+		}
+
+	}
+
 }
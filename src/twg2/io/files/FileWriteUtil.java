@@ -0,0 +1,416 @@
+package twg2.io.files;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileAttribute;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/** A persistent helper for writing binary/text content to files, the write counterpart to {@link FileReadUtil}.
+ * Text is copied in chunks into a cached char buffer, encoded by a cached {@link CharsetEncoder} into a cached {@link ByteBuffer},
+ * and written to a {@link FileChannel} each time the byte buffer fills up. ASCII text written with an ASCII compatible charset
+ * (see {@link FileReadUtil#isAsciiCompatible(Charset)}) skips the encoder. Once the caches are initialized, writing a file only allocates the file channel.<br>
+ * Compared to {@link FileUtil#writerBuffered(File, Charset)}, which allocates a writer, encoder, and buffers per file, this is intended for writing many files.
+ * WARNING: this class is not thread safe, cached arrays/buffers are used internally to reduce generated garbage, create one new instance per thread or use {@link #threadLocalInst()}.
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+public class FileWriteUtil {
+	// thread local instance
+	private static final ThreadLocal<FileWriteUtil> threadLocalInst = ThreadLocal.withInitial(() -> new FileWriteUtil());
+	private static final Set<OpenOption> WRITE_OPTIONS = Collections.unmodifiableSet(EnumSet.of(StandardOpenOption.WRITE, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING));
+	private static final Set<OpenOption> APPEND_OPTIONS = Collections.unmodifiableSet(EnumSet.of(StandardOpenOption.WRITE, StandardOpenOption.CREATE, StandardOpenOption.APPEND));
+	private static final FileAttribute<?>[] NO_ATTRIBUTES = new FileAttribute<?>[0];
+	private static final char[] EMPTY_CHARS = new char[0];
+	// defaults which can be set by static methods
+	/** the smallest allowed buffer size, large enough to hold the longest encoding of a single code point in any supported charset so every encode makes progress */
+	private static final int MIN_BUFFER_SIZE = 16;
+	private static volatile int staticDefaultBufferSize = 8192;
+	private static volatile Charset defaultCharset = Charset.forName("UTF-8");
+
+	/** the charset used by write methods without a charset parameter */
+	private Charset charset;
+	private CharsetEncoder charsetEncoder;
+	/** the encoder for the most recently used charset other than {@link #charset} */
+	private CharsetEncoder otherEncoder;
+	/** the size of the cached char and byte buffers */
+	private int bufferSize;
+	/** a single threaded unsafe byte buffer */
+	private ByteBuffer tmpByteBuf;
+	/** a single threaded unsafe char buffer */
+	private char[] tmpCharBuf;
+	/** a reusable view of {@link #tmpCharBuf} passed to the encoder */
+	private CharBuffer tmpCharBufView;
+	/** a reusable view of the char[] passed to the char[] write methods */
+	private CharArrayView tmpCharArrayView;
+	// ==== stats ====
+	private long writeCount;
+	private long bytesWritten;
+	private long encodeCount;
+
+
+	/** Create a FileWriteUtil with default 'UTF-8' charset for text encoding and a buffer size of 8192
+	 */
+	public FileWriteUtil() {
+		this(defaultCharset, staticDefaultBufferSize);
+	}
+
+
+	/** Create a FileWriteUtil instance
+	 * @param charset the charset to use for text encoding, if null 'UTF-8' is used
+	 * @param bufferSize the size of the cached buffers, which is also the typical size of each write to a file, must be at least 16
+	 */
+	public FileWriteUtil(Charset charset, int bufferSize) {
+		if(bufferSize < MIN_BUFFER_SIZE) {
+			throw new IllegalArgumentException("bufferSize must be at least " + MIN_BUFFER_SIZE);
+		}
+		this.charset = charset != null ? charset : defaultCharset;
+		this.bufferSize = bufferSize;
+		this.charsetEncoder = newEncoder(this.charset);
+	}
+
+
+	public Charset getCharset() {
+		return charset;
+	}
+
+
+	public int getBufferSize() {
+		return bufferSize;
+	}
+
+
+	/**
+	 * @return the number of completed write calls
+	 */
+	public long getWriteCount() {
+		return writeCount;
+	}
+
+
+	/**
+	 * @return the total number of bytes written
+	 */
+	public long getBytesWritten() {
+		return bytesWritten;
+	}
+
+
+	/**
+	 * @return the number of text writes which needed the {@link CharsetEncoder} (i.e. were not written by the ASCII fast path)
+	 */
+	public long getEncodeCount() {
+		return encodeCount;
+	}
+
+
+	// ==== write text ====
+
+	/** Write text to a file using this instance's charset, replacing the file's contents
+	 * @return the number of bytes written
+	 */
+	public long write(File file, CharSequence text) throws IOException {
+		return write(file.toPath(), text, charset);
+	}
+
+
+	/** Write text to a file using this instance's charset, replacing the file's contents
+	 * @return the number of bytes written
+	 */
+	public long write(Path path, CharSequence text) throws IOException {
+		return write(path, text, charset);
+	}
+
+
+	/** Write text to a file, replacing the file's contents
+	 * @param path the file to write, created if it does not exist
+	 * @param text the text to write
+	 * @param charset the charset to encode the text with, unmappable characters are replaced by the charset's replacement bytes
+	 * @return the number of bytes written
+	 */
+	public long write(Path path, CharSequence text, Charset charset) throws IOException {
+		try(FileChannel ch = FileChannel.open(path, WRITE_OPTIONS, NO_ATTRIBUTES)) {
+			return write(ch, text, charset);
+		}
+	}
+
+
+	/** Write a range of a char[] to a file, replacing the file's contents
+	 * @return the number of bytes written
+	 * @see #write(Path, CharSequence, Charset)
+	 */
+	public long write(Path path, char[] chars, int off, int len, Charset charset) throws IOException {
+		CharArrayView view = tmpCharArrayView != null ? tmpCharArrayView : (tmpCharArrayView = new CharArrayView());
+		try {
+			return write(path, view.set(chars, off, len), charset);
+		} finally {
+			// don't retain the caller's array
+			view.set(EMPTY_CHARS, 0, 0);
+		}
+	}
+
+
+	/** Append text to the end of a file
+	 * @param path the file to write, created if it does not exist
+	 * @param text the text to write
+	 * @param charset the charset to encode the text with
+	 * @return the number of bytes written
+	 */
+	public long append(Path path, CharSequence text, Charset charset) throws IOException {
+		try(FileChannel ch = FileChannel.open(path, APPEND_OPTIONS, NO_ATTRIBUTES)) {
+			return write(ch, text, charset);
+		}
+	}
+
+
+	/** Encode text and write it to a channel at the channel's current position, the channel is not closed
+	 * @param ch the channel to write to
+	 * @param text the text to write
+	 * @param charset the charset to encode the text with
+	 * @return the number of bytes written
+	 */
+	public long write(WritableByteChannel ch, CharSequence text, Charset charset) throws IOException {
+		long written = encode(ch, text, charset);
+		writeCount++;
+		bytesWritten += written;
+		return written;
+	}
+
+
+	// ==== write bytes ====
+
+	/** Write bytes to a file, replacing the file's contents
+	 * @return the number of bytes written
+	 */
+	public long write(Path path, byte[] bytes) throws IOException {
+		return write(path, bytes, 0, bytes.length);
+	}
+
+
+	/** Write a range of a byte[] to a file, replacing the file's contents
+	 * @return the number of bytes written
+	 */
+	public long write(Path path, byte[] bytes, int off, int len) throws IOException {
+		try(FileChannel ch = FileChannel.open(path, WRITE_OPTIONS, NO_ATTRIBUTES)) {
+			return write(ch, bytes, off, len);
+		}
+	}
+
+
+	/** Write a range of a byte[] to a channel at the channel's current position, the channel is not closed.
+	 * The bytes are copied through the cached buffer in buffer sized chunks, so the temporary direct buffer
+	 * which the JDK uses for heap buffer channel writes stays buffer sized regardless of the array size.
+	 * @return the number of bytes written
+	 */
+	public long write(WritableByteChannel ch, byte[] bytes, int off, int len) throws IOException {
+		if(off < 0 || len < 0 || off + len > bytes.length) {
+			throw new IndexOutOfBoundsException("off: " + off + ", len: " + len + ", array length: " + bytes.length);
+		}
+		ByteBuffer out = getByteBuf();
+		out.clear();
+		long written = 0;
+		while(len > 0) {
+			int cnt = Math.min(len, out.remaining());
+			out.put(bytes, off, cnt);
+			off += cnt;
+			len -= cnt;
+			written += flush(ch, out);
+		}
+		writeCount++;
+		bytesWritten += written;
+		return written;
+	}
+
+
+	/** Encode text into the cached byte buffer and write it to the channel each time the buffer fills up
+	 * @return the number of bytes written
+	 */
+	protected long encode(WritableByteChannel ch, CharSequence text, Charset charset) throws IOException {
+		ByteBuffer out = getByteBuf();
+		out.clear();
+		char[] chars = getCharBuf();
+		CharBuffer in = tmpCharBufView;
+		boolean asciiCompatible = FileReadUtil.isAsciiCompatible(charset);
+		CharsetEncoder encoder = null;
+		long written = 0;
+		// chars left over at the start of the char buffer from the previous chunk (i.e. the high surrogate of a pair split between chunks)
+		int carry = 0;
+
+		for(int i = 0, len = text.length(); ; ) {
+			int cnt = Math.min(chars.length - carry, len - i);
+			getChars(text, i, i + cnt, chars, carry);
+			i += cnt;
+			cnt += carry;
+			boolean endOfInput = (i >= len);
+			int j = 0;
+
+			// ASCII fast path, until the first non-ASCII char
+			if(encoder == null && asciiCompatible) {
+				byte[] outArray = out.array();
+				while(j < cnt) {
+					if(!out.hasRemaining()) {
+						written += flush(ch, out);
+					}
+					int outPos = out.position();
+					int end = Math.min(cnt, j + out.remaining());
+					int k = j;
+					for(char c; k < end && (c = chars[k]) < 0x80; k++) {
+						outArray[outPos++] = (byte)c;
+					}
+					out.position(outPos);
+					j = k;
+					if(k < end) {
+						break;
+					}
+				}
+			}
+
+			if(j < cnt) {
+				if(encoder == null) {
+					encoder = getEncoder(charset);
+					encoder.reset();
+					encodeCount++;
+				}
+				in.limit(cnt).position(j);
+				CoderResult res;
+				while((res = encoder.encode(in, out, endOfInput)).isOverflow()) {
+					written += flush(ch, out);
+				}
+				if(res.isError()) {
+					res.throwException();
+				}
+				carry = in.remaining();
+				if(carry > 0) {
+					System.arraycopy(chars, in.position(), chars, 0, carry);
+				}
+			}
+			else {
+				carry = 0;
+			}
+
+			if(endOfInput) {
+				break;
+			}
+		}
+
+		if(encoder != null) {
+			while(encoder.flush(out).isOverflow()) {
+				written += flush(ch, out);
+			}
+		}
+		written += flush(ch, out);
+		return written;
+	}
+
+
+	/** Write the buffer's contents to the channel and clear the buffer
+	 * @return the number of bytes written
+	 */
+	private static int flush(WritableByteChannel ch, ByteBuffer out) throws IOException {
+		out.flip();
+		int cnt = out.remaining();
+		while(out.hasRemaining()) {
+			ch.write(out);
+		}
+		out.clear();
+		return cnt;
+	}
+
+
+	private CharsetEncoder getEncoder(Charset charset) {
+		if(charset == null || charset.equals(this.charset)) {
+			return charsetEncoder;
+		}
+		if(otherEncoder == null || !otherEncoder.charset().equals(charset)) {
+			otherEncoder = newEncoder(charset);
+		}
+		return otherEncoder;
+	}
+
+
+	private ByteBuffer getByteBuf() {
+		// heap buffer so the encoders and the ASCII path can use array access, FileChannel writes of heap buffers reuse a per-thread direct buffer internally
+		return tmpByteBuf != null ? tmpByteBuf : (tmpByteBuf = ByteBuffer.allocate(bufferSize));
+	}
+
+
+	private char[] getCharBuf() {
+		if(tmpCharBuf == null) {
+			tmpCharBuf = new char[bufferSize];
+			tmpCharBufView = CharBuffer.wrap(tmpCharBuf);
+		}
+		return tmpCharBuf;
+	}
+
+
+	@Override
+	public String toString() {
+		return "FileWriteUtil: { charset: " + charset + ", bufferSize: " + bufferSize + ", writes: " + writeCount + ", bytesWritten: " + bytesWritten + ", encodes: " + encodeCount + " }";
+	}
+
+
+	/** Copy chars {@code [start, end)} of a {@link CharSequence} into a char array, using bulk copies for common implementations
+	 */
+	static void getChars(CharSequence src, int start, int end, char[] dst, int dstOff) {
+		if(src instanceof String) {
+			((String)src).getChars(start, end, dst, dstOff);
+		}
+		else if(src instanceof StringBuilder) {
+			((StringBuilder)src).getChars(start, end, dst, dstOff);
+		}
+		else if(src instanceof CharArrayView) {
+			CharArrayView view = (CharArrayView)src;
+			System.arraycopy(view.array(), view.offset() + start, dst, dstOff, end - start);
+		}
+		else {
+			for(int i = start; i < end; i++) {
+				dst[dstOff++] = src.charAt(i);
+			}
+		}
+	}
+
+
+	private static CharsetEncoder newEncoder(Charset charset) {
+		return charset.newEncoder()
+				.onMalformedInput(CodingErrorAction.REPLACE)
+				.onUnmappableCharacter(CodingErrorAction.REPLACE);
+	}
+
+
+	/** Set the default buffer size for all {@link #FileWriteUtil()} no-arg constructor calls, must be at least 16
+	 */
+	public static void setDefaultBufferSize(int bufferSize) {
+		if(bufferSize < MIN_BUFFER_SIZE) {
+			throw new IllegalArgumentException("bufferSize must be at least " + MIN_BUFFER_SIZE);
+		}
+		FileWriteUtil.staticDefaultBufferSize = bufferSize;
+	}
+
+
+	/** Set the default {@link Charset} text encoding for all {@link #FileWriteUtil()} no-arg constructor calls, if null 'UTF-8' is used.
+	 */
+	public static void setDefaultCharset(Charset cs) {
+		FileWriteUtil.defaultCharset = cs != null ? cs : Charset.forName("UTF-8");
+	}
+
+
+	/** Get a thread local {@link FileWriteUtil} instance.
+	 * These instances are not thread safe and so should only be used on one thread.
+	 */
+	public static FileWriteUtil threadLocalInst() {
+		return threadLocalInst.get();
+	}
+
+}
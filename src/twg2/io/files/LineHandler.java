@@ -0,0 +1,20 @@
+package twg2.io.files;
+
+/** A callback which receives the lines of text read by {@link FileReadUtil}'s readLines() methods.
+ * Lines are reported as views of the reader's cached char buffer so that no String or char[] is allocated per line.
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+@FunctionalInterface
+public interface LineHandler {
+
+	/** Called once for each line
+	 * @param line a view of the line's chars, excluding the line terminator ({@code \n}, {@code \r\n}, or {@code \r}).
+	 * The view object is reused for every line and is only valid until this method returns, call {@link CharArrayView#toString()} to keep a copy.
+	 * {@link CharArrayView#offset()} and {@link CharArrayView#offset()} + {@link CharArrayView#length()} are the line's start and end offsets in {@link CharArrayView#array()}.
+	 * @param lineIndex the 0 based index of the line
+	 * @return true to continue reading lines, false to stop
+	 */
+	public boolean line(CharArrayView line, int lineIndex);
+
+}
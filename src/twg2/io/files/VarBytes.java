@@ -0,0 +1,632 @@
+package twg2.io.files;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/** A utility class for variable length encoding of primitive types and strings, the variable length counterpart to {@link Bytes}.
+ * Integers are encoded as unsigned LEB128 varints, 7 bits per byte, least significant group first, with the high bit
+ * of each byte set if another byte follows. Small values take fewer bytes (0-127 take 1 byte, an int takes at most 5 bytes
+ * and a long at most 10). Negative numbers should first be zigzag encoded (see {@link #encodeZigZag(int)} or
+ * the {@code *SignedVar*} methods) since a negative varint always takes the max number of bytes.<br>
+ * Strings are encoded as a varint UTF-8 byte length followed by the UTF-8 bytes, strings are encoded directly into and
+ * decoded directly from the caller's byte array/buffer without intermediate byte arrays.<br>
+ * {@code byte[]} write methods return the number of bytes written, {@code byte[]} read methods return the decoded value,
+ * use {@link #varIntSize(int)}/{@link #varLongSize(long)}/{@link #readStringSize(byte[], int)} to advance past a value.
+ * {@link ByteBuffer} methods read/write at the buffer's position and advance it.
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+public final class VarBytes {
+	/** the maximum number of bytes in a varint encoded int */
+	public static final int MAX_VAR_INT_SIZE = 5;
+	/** the maximum number of bytes in a varint encoded long */
+	public static final int MAX_VAR_LONG_SIZE = 10;
+
+	private VarBytes() { throw new AssertionError("cannot instantiate static class VarBytes"); }
+
+
+	/**
+	 * @return the number of bytes needed to varint encode {@code value}, 1 to 5
+	 */
+	public static int varIntSize(int value) {
+		return (31 - Integer.numberOfLeadingZeros(value | 1)) / 7 + 1;
+	}
+
+
+	/**
+	 * @return the number of bytes needed to varint encode {@code value}, 1 to 10
+	 */
+	public static int varLongSize(long value) {
+		return (63 - Long.numberOfLeadingZeros(value | 1)) / 7 + 1;
+	}
+
+
+	/** Zigzag encode a signed int so that values with a small absolute value have a small unsigned value
+	 * (0 -> 0, -1 -> 1, 1 -> 2, -2 -> 3, ...)
+	 */
+	public static int encodeZigZag(int value) {
+		return (value << 1) ^ (value >> 31);
+	}
+
+
+	/** Reverse of {@link #encodeZigZag(int)}
+	 */
+	public static int decodeZigZag(int value) {
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+
+	/** Zigzag encode a signed long so that values with a small absolute value have a small unsigned value
+	 * (0 -> 0, -1 -> 1, 1 -> 2, -2 -> 3, ...)
+	 */
+	public static long encodeZigZag(long value) {
+		return (value << 1) ^ (value >> 63);
+	}
+
+
+	/** Reverse of {@link #encodeZigZag(long)}
+	 */
+	public static long decodeZigZag(long value) {
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+
+	// ==== byte[] varints ====
+
+	/** Write an int to the specified byte array as a 1 to 5 byte unsigned varint
+	 * @param value the int to write
+	 * @param b the byte array to write the 'value' to
+	 * @param offset the offset into the array at which to write the varint
+	 * @return the number of bytes written, same as {@link #varIntSize(int)}
+	 */
+	public static int writeVarInt(int value, byte[] b, int offset) {
+		int i = offset;
+		while((value & ~0x7F) != 0) {
+			b[i++] = (byte)(value | 0x80);
+			value >>>= 7;
+		}
+		b[i++] = (byte)value;
+		return i - offset;
+	}
+
+
+	/** Write a long to the specified byte array as a 1 to 10 byte unsigned varint
+	 * @param value the long to write
+	 * @param b the byte array to write the 'value' to
+	 * @param offset the offset into the array at which to write the varint
+	 * @return the number of bytes written, same as {@link #varLongSize(long)}
+	 */
+	public static int writeVarLong(long value, byte[] b, int offset) {
+		int i = offset;
+		while((value & ~0x7FL) != 0) {
+			b[i++] = (byte)(value | 0x80);
+			value >>>= 7;
+		}
+		b[i++] = (byte)value;
+		return i - offset;
+	}
+
+
+	/** Zigzag encode and write a signed int as a varint
+	 * @see #writeVarInt(int, byte[], int)
+	 */
+	public static int writeSignedVarInt(int value, byte[] b, int offset) {
+		return writeVarInt(encodeZigZag(value), b, offset);
+	}
+
+
+	/** Zigzag encode and write a signed long as a varint
+	 * @see #writeVarLong(long, byte[], int)
+	 */
+	public static int writeSignedVarLong(long value, byte[] b, int offset) {
+		return writeVarLong(encodeZigZag(value), b, offset);
+	}
+
+
+	/** Read an unsigned varint int from the specified location in the specified array
+	 * @param b the array to read the varint from
+	 * @param offset the offset into the array at which to read the varint
+	 * @return the decoded int, the varint is {@link #varIntSize(int)} bytes long
+	 * @throws IllegalArgumentException if the varint is longer than 5 bytes
+	 */
+	public static int readVarInt(byte[] b, int offset) {
+		int v = b[offset];
+		if(v >= 0) {
+			return v;
+		}
+		int res = v & 0x7F;
+		if((v = b[offset + 1]) >= 0) {
+			return res | (v << 7);
+		}
+		res |= (v & 0x7F) << 7;
+		if((v = b[offset + 2]) >= 0) {
+			return res | (v << 14);
+		}
+		res |= (v & 0x7F) << 14;
+		if((v = b[offset + 3]) >= 0) {
+			return res | (v << 21);
+		}
+		res |= (v & 0x7F) << 21;
+		if((v = b[offset + 4]) >= 0) {
+			return res | (v << 28);
+		}
+		throw new IllegalArgumentException("malformed varint at offset " + offset + ", longer than " + MAX_VAR_INT_SIZE + " bytes");
+	}
+
+
+	/** Read an unsigned varint long from the specified location in the specified array
+	 * @param b the array to read the varint from
+	 * @param offset the offset into the array at which to read the varint
+	 * @return the decoded long, the varint is {@link #varLongSize(long)} bytes long
+	 * @throws IllegalArgumentException if the varint is longer than 10 bytes
+	 */
+	public static long readVarLong(byte[] b, int offset) {
+		long v = b[offset];
+		if(v >= 0) {
+			return v;
+		}
+		long res = v & 0x7F;
+		for(int i = 1, shift = 7; i < MAX_VAR_LONG_SIZE; i++, shift += 7) {
+			v = b[offset + i];
+			if(v >= 0) {
+				return res | (v << shift);
+			}
+			res |= (v & 0x7F) << shift;
+		}
+		throw new IllegalArgumentException("malformed varint at offset " + offset + ", longer than " + MAX_VAR_LONG_SIZE + " bytes");
+	}
+
+
+	/** Read a varint and zigzag decode it into a signed int
+	 * @see #readVarInt(byte[], int)
+	 */
+	public static int readSignedVarInt(byte[] b, int offset) {
+		return decodeZigZag(readVarInt(b, offset));
+	}
+
+
+	/** Read a varint and zigzag decode it into a signed long
+	 * @see #readVarLong(byte[], int)
+	 */
+	public static long readSignedVarLong(byte[] b, int offset) {
+		return decodeZigZag(readVarLong(b, offset));
+	}
+
+
+	// ==== ByteBuffer varints ====
+
+	/** Write an int as an unsigned varint at the buffer's position and advance the position
+	 * @return the number of bytes written
+	 * @throws BufferOverflowException if the buffer does not have enough bytes remaining
+	 */
+	public static int writeVarInt(int value, ByteBuffer dst) {
+		int size = varIntSize(value);
+		if(dst.remaining() < size) {
+			throw new BufferOverflowException();
+		}
+		while((value & ~0x7F) != 0) {
+			dst.put((byte)(value | 0x80));
+			value >>>= 7;
+		}
+		dst.put((byte)value);
+		return size;
+	}
+
+
+	/** Write a long as an unsigned varint at the buffer's position and advance the position
+	 * @return the number of bytes written
+	 * @throws BufferOverflowException if the buffer does not have enough bytes remaining
+	 */
+	public static int writeVarLong(long value, ByteBuffer dst) {
+		int size = varLongSize(value);
+		if(dst.remaining() < size) {
+			throw new BufferOverflowException();
+		}
+		while((value & ~0x7FL) != 0) {
+			dst.put((byte)(value | 0x80));
+			value >>>= 7;
+		}
+		dst.put((byte)value);
+		return size;
+	}
+
+
+	/** Zigzag encode and write a signed int as a varint
+	 * @see #writeVarInt(int, ByteBuffer)
+	 */
+	public static int writeSignedVarInt(int value, ByteBuffer dst) {
+		return writeVarInt(encodeZigZag(value), dst);
+	}
+
+
+	/** Zigzag encode and write a signed long as a varint
+	 * @see #writeVarLong(long, ByteBuffer)
+	 */
+	public static int writeSignedVarLong(long value, ByteBuffer dst) {
+		return writeVarLong(encodeZigZag(value), dst);
+	}
+
+
+	/** Read an unsigned varint int at the buffer's position and advance the position past it
+	 * @throws BufferUnderflowException if the buffer ends before the end of the varint
+	 * @throws IllegalArgumentException if the varint is longer than 5 bytes
+	 */
+	public static int readVarInt(ByteBuffer src) {
+		int v = src.get();
+		if(v >= 0) {
+			return v;
+		}
+		int res = v & 0x7F;
+		for(int shift = 7; shift < 35; shift += 7) {
+			v = src.get();
+			if(v >= 0) {
+				return res | (v << shift);
+			}
+			res |= (v & 0x7F) << shift;
+		}
+		throw new IllegalArgumentException("malformed varint ending at position " + src.position() + ", longer than " + MAX_VAR_INT_SIZE + " bytes");
+	}
+
+
+	/** Read an unsigned varint long at the buffer's position and advance the position past it
+	 * @throws BufferUnderflowException if the buffer ends before the end of the varint
+	 * @throws IllegalArgumentException if the varint is longer than 10 bytes
+	 */
+	public static long readVarLong(ByteBuffer src) {
+		long v = src.get();
+		if(v >= 0) {
+			return v;
+		}
+		long res = v & 0x7F;
+		for(int shift = 7; shift < 70; shift += 7) {
+			v = src.get();
+			if(v >= 0) {
+				return res | (v << shift);
+			}
+			res |= (v & 0x7F) << shift;
+		}
+		throw new IllegalArgumentException("malformed varint ending at position " + src.position() + ", longer than " + MAX_VAR_LONG_SIZE + " bytes");
+	}
+
+
+	/** Read a varint and zigzag decode it into a signed int
+	 * @see #readVarInt(ByteBuffer)
+	 */
+	public static int readSignedVarInt(ByteBuffer src) {
+		return decodeZigZag(readVarInt(src));
+	}
+
+
+	/** Read a varint and zigzag decode it into a signed long
+	 * @see #readVarLong(ByteBuffer)
+	 */
+	public static long readSignedVarLong(ByteBuffer src) {
+		return decodeZigZag(readVarLong(src));
+	}
+
+
+	// ==== length prefixed UTF-8 strings ====
+
+	/**
+	 * @return the number of bytes needed to UTF-8 encode {@code str}, unpaired surrogates are encoded as '?' (same as {@link String#getBytes(java.nio.charset.Charset)})
+	 */
+	public static int utf8Length(CharSequence str) {
+		int n = str.length();
+		int len = n;
+		for(int i = 0; i < n; i++) {
+			char ch = str.charAt(i);
+			if(ch >= 0x80) {
+				if(ch < 0x800) {
+					len += 1;
+				}
+				else if(!Character.isSurrogate(ch)) {
+					len += 2;
+				}
+				else if(Character.isHighSurrogate(ch) && i + 1 < n && Character.isLowSurrogate(str.charAt(i + 1))) {
+					// 2 chars -> 4 bytes
+					len += 2;
+					i++;
+				}
+			}
+		}
+		return len;
+	}
+
+
+	/**
+	 * @return the number of bytes {@link #writeString(CharSequence, byte[], int)} writes for {@code str}, the varint length prefix plus the UTF-8 bytes
+	 */
+	public static int encodedStringSize(CharSequence str) {
+		int len = utf8Length(str);
+		return varIntSize(len) + len;
+	}
+
+
+	/** Write a string to the specified byte array as a varint UTF-8 byte length followed by the UTF-8 bytes
+	 * @param str the string to write
+	 * @param b the byte array to write the string to
+	 * @param offset the offset into the array at which to write the string
+	 * @return the number of bytes written, same as {@link #encodedStringSize(CharSequence)}
+	 * @throws IndexOutOfBoundsException if the array is too small, in which case nothing is written
+	 */
+	public static int writeString(CharSequence str, byte[] b, int offset) {
+		int len = utf8Length(str);
+		int prefixSize = varIntSize(len);
+		Objects.checkFromIndexSize(offset, prefixSize + len, b.length);
+		writeVarInt(len, b, offset);
+		encodeUtf8(str, b, offset + prefixSize);
+		return prefixSize + len;
+	}
+
+
+	/** Write a string at the buffer's position as a varint UTF-8 byte length followed by the UTF-8 bytes and advance the position
+	 * @return the number of bytes written, same as {@link #encodedStringSize(CharSequence)}
+	 * @throws BufferOverflowException if the buffer does not have enough bytes remaining, in which case nothing is written
+	 */
+	public static int writeString(CharSequence str, ByteBuffer dst) {
+		int len = utf8Length(str);
+		int size = varIntSize(len) + len;
+		if(dst.remaining() < size) {
+			throw new BufferOverflowException();
+		}
+		writeVarInt(len, dst);
+		if(dst.hasArray()) {
+			int pos = dst.position();
+			encodeUtf8(str, dst.array(), dst.arrayOffset() + pos);
+			dst.position(pos + len);
+		}
+		else {
+			encodeUtf8(str, dst);
+		}
+		return size;
+	}
+
+
+	/**
+	 * @return the total number of bytes (varint length prefix plus UTF-8 bytes) of the string at the specified location in the specified array
+	 */
+	public static int readStringSize(byte[] b, int offset) {
+		int len = readVarInt(b, offset);
+		return varIntSize(len) + len;
+	}
+
+
+	/** Read a string written by {@link #writeString(CharSequence, byte[], int)}
+	 * @param b the array to read the string from
+	 * @param offset the offset into the array at which to read the string
+	 * @return the decoded string, the encoded string is {@link #readStringSize(byte[], int)} bytes long
+	 */
+	public static String readString(byte[] b, int offset) {
+		int len = readVarInt(b, offset);
+		return new String(b, offset + varIntSize(len), len, StandardCharsets.UTF_8);
+	}
+
+
+	/** Read a string written by {@link #writeString(CharSequence, byte[], int)} into a caller supplied char array.
+	 * Since a UTF-8 string never has more chars than bytes, a {@code dst} with {@link #readStringSize(byte[], int)} chars
+	 * remaining is always large enough. Malformed UTF-8 sequences are decoded as U+FFFD.
+	 * @param b the array to read the string from
+	 * @param offset the offset into the array at which to read the string
+	 * @param dst the char array to decode the string into
+	 * @param dstOff the offset into {@code dst} at which to store the first char
+	 * @return the number of chars decoded into {@code dst}
+	 */
+	public static int readChars(byte[] b, int offset, char[] dst, int dstOff) {
+		int len = readVarInt(b, offset);
+		int start = offset + varIntSize(len);
+		Objects.checkFromIndexSize(start, len, b.length);
+		return decodeUtf8(b, start, start + len, dst, dstOff) - dstOff;
+	}
+
+
+	/** Read a string written by {@link #writeString(CharSequence, ByteBuffer)} at the buffer's position and advance the position past it
+	 * @throws BufferUnderflowException if the buffer ends before the end of the string
+	 */
+	public static String readString(ByteBuffer src) {
+		int len = readVarInt(src);
+		if(src.remaining() < len) {
+			throw new BufferUnderflowException();
+		}
+		int pos = src.position();
+		String res;
+		if(src.hasArray()) {
+			res = new String(src.array(), src.arrayOffset() + pos, len, StandardCharsets.UTF_8);
+		}
+		else {
+			byte[] bytes = new byte[len];
+			src.get(bytes);
+			res = new String(bytes, StandardCharsets.UTF_8);
+		}
+		src.position(pos + len);
+		return res;
+	}
+
+
+	/** Read a string written by {@link #writeString(CharSequence, ByteBuffer)} at the buffer's position into a caller supplied char array
+	 * and advance the position past it. Malformed UTF-8 sequences are decoded as U+FFFD.
+	 * @param src the buffer to read from
+	 * @param dst the char array to decode the string into, must have room for at least as many chars as the string's UTF-8 byte length
+	 * @param dstOff the offset into {@code dst} at which to store the first char
+	 * @return the number of chars decoded into {@code dst}
+	 * @throws BufferUnderflowException if the buffer ends before the end of the string
+	 */
+	public static int readChars(ByteBuffer src, char[] dst, int dstOff) {
+		int len = readVarInt(src);
+		if(src.remaining() < len) {
+			throw new BufferUnderflowException();
+		}
+		int pos = src.position();
+		int end;
+		if(src.hasArray()) {
+			int start = src.arrayOffset() + pos;
+			end = decodeUtf8(src.array(), start, start + len, dst, dstOff);
+		}
+		else {
+			end = decodeUtf8(src, pos, pos + len, dst, dstOff);
+		}
+		src.position(pos + len);
+		return end - dstOff;
+	}
+
+
+	/** UTF-8 encode {@code str} into {@code b} starting at {@code offset}, the array must have room for {@link #utf8Length(CharSequence)} bytes
+	 * @return the offset after the last byte written
+	 */
+	static int encodeUtf8(CharSequence str, byte[] b, int offset) {
+		int n = str.length();
+		int i = 0;
+		int off = offset;
+		// ASCII fast path
+		for(char ch; i < n && (ch = str.charAt(i)) < 0x80; i++) {
+			b[off++] = (byte)ch;
+		}
+		for(; i < n; i++) {
+			char ch = str.charAt(i);
+			if(ch < 0x80) {
+				b[off++] = (byte)ch;
+			}
+			else if(ch < 0x800) {
+				b[off++] = (byte)(0xC0 | (ch >> 6));
+				b[off++] = (byte)(0x80 | (ch & 0x3F));
+			}
+			else if(!Character.isSurrogate(ch)) {
+				b[off++] = (byte)(0xE0 | (ch >> 12));
+				b[off++] = (byte)(0x80 | ((ch >> 6) & 0x3F));
+				b[off++] = (byte)(0x80 | (ch & 0x3F));
+			}
+			else if(Character.isHighSurrogate(ch) && i + 1 < n && Character.isLowSurrogate(str.charAt(i + 1))) {
+				int cp = Character.toCodePoint(ch, str.charAt(++i));
+				b[off++] = (byte)(0xF0 | (cp >> 18));
+				b[off++] = (byte)(0x80 | ((cp >> 12) & 0x3F));
+				b[off++] = (byte)(0x80 | ((cp >> 6) & 0x3F));
+				b[off++] = (byte)(0x80 | (cp & 0x3F));
+			}
+			else {
+				b[off++] = '?';
+			}
+		}
+		return off;
+	}
+
+
+	/** UTF-8 encode {@code str} at the buffer's position (advancing it), the buffer must have {@link #utf8Length(CharSequence)} bytes remaining
+	 */
+	static void encodeUtf8(CharSequence str, ByteBuffer dst) {
+		for(int i = 0, n = str.length(); i < n; i++) {
+			char ch = str.charAt(i);
+			if(ch < 0x80) {
+				dst.put((byte)ch);
+			}
+			else if(ch < 0x800) {
+				dst.put((byte)(0xC0 | (ch >> 6)));
+				dst.put((byte)(0x80 | (ch & 0x3F)));
+			}
+			else if(!Character.isSurrogate(ch)) {
+				dst.put((byte)(0xE0 | (ch >> 12)));
+				dst.put((byte)(0x80 | ((ch >> 6) & 0x3F)));
+				dst.put((byte)(0x80 | (ch & 0x3F)));
+			}
+			else if(Character.isHighSurrogate(ch) && i + 1 < n && Character.isLowSurrogate(str.charAt(i + 1))) {
+				int cp = Character.toCodePoint(ch, str.charAt(++i));
+				dst.put((byte)(0xF0 | (cp >> 18)));
+				dst.put((byte)(0x80 | ((cp >> 12) & 0x3F)));
+				dst.put((byte)(0x80 | ((cp >> 6) & 0x3F)));
+				dst.put((byte)(0x80 | (cp & 0x3F)));
+			}
+			else {
+				dst.put((byte)'?');
+			}
+		}
+	}
+
+
+	/** Decode the UTF-8 bytes {@code [off, end)} into {@code dst} starting at {@code dstOff}, malformed sequences
+	 * (including overlong forms and encoded surrogate code points) are decoded as U+FFFD
+	 * @return the offset in {@code dst} after the last char decoded
+	 */
+	static int decodeUtf8(byte[] b, int off, int end, char[] dst, int dstOff) {
+		int i = off;
+		int d = dstOff;
+		// ASCII fast path
+		for(byte b0; i < end && (b0 = b[i]) >= 0; i++) {
+			dst[d++] = (char)b0;
+		}
+		while(i < end) {
+			int b0 = b[i++];
+			if(b0 >= 0) {
+				dst[d++] = (char)b0;
+			}
+			else if((b0 & 0xE0) == 0xC0 && (b0 & 0x1E) != 0 && i < end && isContinuation(b[i])) {
+				dst[d++] = (char)(((b0 & 0x1F) << 6) | (b[i++] & 0x3F));
+			}
+			else if((b0 & 0xF0) == 0xE0 && i + 1 < end && isContinuation(b[i]) && isContinuation(b[i + 1])) {
+				int ch = ((b0 & 0x0F) << 12) | ((b[i] & 0x3F) << 6) | (b[i + 1] & 0x3F);
+				i += 2;
+				// overlong forms and encoded surrogates (U+D800 - U+DFFF) are malformed
+				dst[d++] = (ch >= 0x800 && (ch < Character.MIN_SURROGATE || ch > Character.MAX_SURROGATE)) ? (char)ch : '\uFFFD';
+			}
+			else if((b0 & 0xF8) == 0xF0 && i + 2 < end && isContinuation(b[i]) && isContinuation(b[i + 1]) && isContinuation(b[i + 2])) {
+				int cp = ((b0 & 0x07) << 18) | ((b[i] & 0x3F) << 12) | ((b[i + 1] & 0x3F) << 6) | (b[i + 2] & 0x3F);
+				i += 3;
+				if(cp >= 0x10000 && cp <= Character.MAX_CODE_POINT) {
+					dst[d++] = Character.highSurrogate(cp);
+					dst[d++] = Character.lowSurrogate(cp);
+				}
+				else {
+					dst[d++] = '\uFFFD';
+				}
+			}
+			else {
+				dst[d++] = '\uFFFD';
+			}
+		}
+		return d;
+	}
+
+
+	/** {@link ByteBuffer} absolute index version of {@link #decodeUtf8(byte[], int, int, char[], int)}
+	 */
+	static int decodeUtf8(ByteBuffer b, int off, int end, char[] dst, int dstOff) {
+		int i = off;
+		int d = dstOff;
+		while(i < end) {
+			int b0 = b.get(i++);
+			if(b0 >= 0) {
+				dst[d++] = (char)b0;
+			}
+			else if((b0 & 0xE0) == 0xC0 && (b0 & 0x1E) != 0 && i < end && isContinuation(b.get(i))) {
+				dst[d++] = (char)(((b0 & 0x1F) << 6) | (b.get(i++) & 0x3F));
+			}
+			else if((b0 & 0xF0) == 0xE0 && i + 1 < end && isContinuation(b.get(i)) && isContinuation(b.get(i + 1))) {
+				int ch = ((b0 & 0x0F) << 12) | ((b.get(i) & 0x3F) << 6) | (b.get(i + 1) & 0x3F);
+				i += 2;
+				// overlong forms and encoded surrogates (U+D800 - U+DFFF) are malformed
+				dst[d++] = (ch >= 0x800 && (ch < Character.MIN_SURROGATE || ch > Character.MAX_SURROGATE)) ? (char)ch : '\uFFFD';
+			}
+			else if((b0 & 0xF8) == 0xF0 && i + 2 < end && isContinuation(b.get(i)) && isContinuation(b.get(i + 1)) && isContinuation(b.get(i + 2))) {
+				int cp = ((b0 & 0x07) << 18) | ((b.get(i) & 0x3F) << 12) | ((b.get(i + 1) & 0x3F) << 6) | (b.get(i + 2) & 0x3F);
+				i += 3;
+				if(cp >= 0x10000 && cp <= Character.MAX_CODE_POINT) {
+					dst[d++] = Character.highSurrogate(cp);
+					dst[d++] = Character.lowSurrogate(cp);
+				}
+				else {
+					dst[d++] = '\uFFFD';
+				}
+			}
+			else {
+				dst[d++] = '\uFFFD';
+			}
+		}
+		return d;
+	}
+
+
+	private static boolean isContinuation(byte b) {
+		return (b & 0xC0) == 0x80;
+	}
+
+}
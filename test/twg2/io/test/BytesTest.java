@@ -0,0 +1,127 @@
+package twg2.io.test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import twg2.io.files.Bytes;
+
+/**
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+public class BytesTest {
+
+	@Test
+	public void singleValueTest() {
+		byte[] buf = new byte[9];
+		// bytes >= 0x80 in the low positions must not sign extend into the higher bytes
+		Bytes.writeInt(0x7F80FF81, buf, 1);
+		Assert.assertEquals(0x7F80FF81, Bytes.readInt(buf, 1));
+		Assert.assertArrayEquals(new byte[] { 0, 0x7F, (byte)0x80, (byte)0xFF, (byte)0x81, 0, 0, 0, 0 }, buf);
+		Assert.assertEquals(0x81FF807F, Bytes.readIntLE(buf, 1));
+
+		Bytes.writeShort((short)0x01F0, buf, 0);
+		Assert.assertEquals((short)0x01F0, Bytes.readShort(buf, 0));
+		Assert.assertEquals((short)0xF001, Bytes.readShortLE(buf, 0));
+
+		Bytes.writeLongLE(0x0102030405060788L, buf, 1);
+		Assert.assertEquals((byte)0x88, buf[1]);
+		Assert.assertEquals((byte)0x01, buf[8]);
+		Assert.assertEquals(0x0102030405060788L, Bytes.readLongLE(buf, 1));
+		Assert.assertEquals(0x8807060504030201L, Bytes.readLong(buf, 1));
+
+		Bytes.writeIntLE(-2, buf, 0);
+		Assert.assertEquals(-2, Bytes.readIntLE(buf, 0));
+		Bytes.writeShortLE((short)-300, buf, 5);
+		Assert.assertEquals((short)-300, Bytes.readShortLE(buf, 5));
+
+		Bytes.writeDouble(-1.25, buf, 1);
+		Assert.assertEquals(-1.25, Bytes.readDouble(buf, 1), 0);
+		Bytes.writeDoubleLE(Math.PI, buf, 1);
+		Assert.assertEquals(Math.PI, Bytes.readDoubleLE(buf, 1), 0);
+		Assert.assertEquals(Double.doubleToRawLongBits(Math.PI), Bytes.readLongLE(buf, 1));
+		Bytes.writeFloat(3.5f, buf, 3);
+		Assert.assertEquals(3.5f, Bytes.readFloat(buf, 3), 0);
+		Bytes.writeFloatLE(-0.1f, buf, 3);
+		Assert.assertEquals(-0.1f, Bytes.readFloatLE(buf, 3), 0);
+		Assert.assertEquals(Float.floatToRawIntBits(-0.1f), Bytes.readIntLE(buf, 3));
+	}
+
+
+	@Test
+	public void bulkArrayTest() {
+		int[] ints = { 0, 1, -1, Integer.MIN_VALUE, Integer.MAX_VALUE, 0x12345678, 0xFF00FF80 };
+		long[] longs = { 0L, -1L, Long.MIN_VALUE, Long.MAX_VALUE, 0x0102030405060780L };
+		short[] shorts = { 0, 1, -1, Short.MIN_VALUE, Short.MAX_VALUE, (short)0x80FF };
+		float[] floats = { 0f, -0f, 1.5f, Float.NaN, Float.MIN_VALUE, Float.NEGATIVE_INFINITY };
+		double[] doubles = { 0d, -0d, 1.5d, Double.NaN, Double.MIN_VALUE, Double.POSITIVE_INFINITY };
+
+		for(ByteOrder order : new ByteOrder[] { ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN }) {
+			// byte[] round trips at an unaligned offset
+			byte[] buf = new byte[3 + doubles.length * 8];
+			int[] intsRes = new int[ints.length + 1];
+			Bytes.writeInts(ints, 0, ints.length, buf, 3, order);
+			Bytes.readInts(buf, 3, intsRes, 1, ints.length, order);
+			Assert.assertArrayEquals(ints, Arrays.copyOfRange(intsRes, 1, intsRes.length));
+			Assert.assertEquals(ints[5], ByteBuffer.wrap(buf, 3 + 5 * 4, 4).order(order).getInt());
+
+			long[] longsRes = new long[longs.length];
+			Bytes.writeLongs(longs, 0, longs.length, buf, 3, order);
+			Bytes.readLongs(buf, 3, longsRes, 0, longs.length, order);
+			Assert.assertArrayEquals(longs, longsRes);
+			Assert.assertEquals(longs[4], ByteBuffer.wrap(buf, 3 + 4 * 8, 8).order(order).getLong());
+
+			short[] shortsRes = new short[shorts.length];
+			Bytes.writeShorts(shorts, 0, shorts.length, buf, 3, order);
+			Bytes.readShorts(buf, 3, shortsRes, 0, shorts.length, order);
+			Assert.assertArrayEquals(shorts, shortsRes);
+
+			float[] floatsRes = new float[floats.length];
+			Bytes.writeFloats(floats, 0, floats.length, buf, 3, order);
+			Bytes.readFloats(buf, 3, floatsRes, 0, floats.length, order);
+			Assert.assertArrayEquals(floats, floatsRes, 0f);
+
+			double[] doublesRes = new double[doubles.length];
+			Bytes.writeDoubles(doubles, 0, doubles.length, buf, 3, order);
+			Bytes.readDoubles(buf, 3, doublesRes, 0, doubles.length, order);
+			Assert.assertArrayEquals(doubles, doublesRes, 0d);
+
+			// ByteBuffer round trips (heap and direct) advance the position
+			for(ByteBuffer bb : new ByteBuffer[] { ByteBuffer.allocate(64), ByteBuffer.allocateDirect(64) }) {
+				bb.order(order).position(1);
+				Bytes.writeInts(ints, 2, 3, bb);
+				Bytes.writeLongs(longs, 0, 2, bb);
+				Assert.assertEquals(1 + 3 * 4 + 2 * 8, bb.position());
+				bb.position(1);
+				int[] bbInts = new int[3];
+				long[] bbLongs = new long[2];
+				Bytes.readInts(bb, bbInts, 0, 3);
+				Bytes.readLongs(bb, bbLongs, 0, 2);
+				Assert.assertArrayEquals(new int[] { ints[2], ints[3], ints[4] }, bbInts);
+				Assert.assertArrayEquals(new long[] { longs[0], longs[1] }, bbLongs);
+				Assert.assertEquals(1 + 3 * 4 + 2 * 8, bb.position());
+			}
+		}
+
+		// big-endian output matches the scalar methods
+		byte[] bulk = new byte[ints.length * 4];
+		byte[] scalar = new byte[ints.length * 4];
+		Bytes.writeInts(ints, 0, ints.length, bulk, 0, ByteOrder.BIG_ENDIAN);
+		for(int i = 0; i < ints.length; i++) {
+			Bytes.writeInt(ints[i], scalar, i * 4);
+		}
+		Assert.assertArrayEquals(scalar, bulk);
+
+		try {
+			Bytes.writeLongs(longs, 0, longs.length, new byte[longs.length * 8 - 1], 0, ByteOrder.BIG_ENDIAN);
+			Assert.fail("expected IndexOutOfBoundsException");
+		} catch(IndexOutOfBoundsException e) {
+			// expected
+		}
+	}
+
+}
@@ -0,0 +1,184 @@
+package twg2.io.test;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.Pipe;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import twg2.io.files.BytesReader;
+import twg2.io.files.BytesWriter;
+
+/**
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+public class BytesWriterReaderTest {
+
+	@Test
+	public void writerReaderTest() throws IOException {
+		long[] longs = new long[1000];
+		for(int i = 0; i < longs.length; i++) {
+			longs[i] = i * 0x0101010101L - 500;
+		}
+
+		// in-memory writer grows from a tiny buffer
+		BytesWriter writer = new BytesWriter(4);
+		writeRecords(writer, longs);
+		Assert.assertTrue(writer.capacity() >= writer.size());
+		Assert.assertEquals(writer.size(), writer.position());
+		byte[] bytes = writer.toByteArray();
+
+		readRecords(new BytesReader(bytes), longs);
+		readRecords(new BytesReader(ByteBuffer.allocateDirect(bytes.length).put(bytes).flip()), longs);
+
+		// reuse after reset produces the same bytes without growing the buffer
+		int capacity = writer.capacity();
+		writer.reset();
+		writeRecords(writer, longs);
+		Assert.assertEquals(capacity, writer.capacity());
+		Assert.assertArrayEquals(bytes, writer.toByteArray());
+
+		// channel writer/reader with buffers smaller than the bulk array and the string
+		Path tmpFile = Files.createTempFile("bytes-writer-test", ".bin");
+		try {
+			try(FileChannel ch = FileChannel.open(tmpFile, StandardOpenOption.WRITE)) {
+				BytesWriter chWriter = new BytesWriter(ch, 64);
+				writeRecords(chWriter, longs);
+				chWriter.flush();
+				Assert.assertEquals(bytes.length, chWriter.position());
+				Assert.assertEquals(0, chWriter.size());
+				// only grows to fit the long string, not the whole output
+				Assert.assertTrue(chWriter.capacity() < 1024);
+			}
+			Assert.assertArrayEquals(bytes, Files.readAllBytes(tmpFile));
+
+			try(FileChannel ch = FileChannel.open(tmpFile, StandardOpenOption.READ)) {
+				BytesReader chReader = new BytesReader(ch, 64);
+				readRecords(chReader, longs);
+				Assert.assertEquals(bytes.length, chReader.position());
+				Assert.assertFalse(chReader.hasRemaining());
+				try {
+					chReader.readInt();
+					Assert.fail("expected EOFException");
+				} catch(EOFException e) {
+					// expected
+				}
+			}
+		} finally {
+			Files.deleteIfExists(tmpFile);
+		}
+
+		// truncated input
+		BytesReader reader = new BytesReader(bytes, 0, 6);
+		Assert.assertEquals(0x7FFFFFFF, reader.readInt());
+		try {
+			reader.readInt();
+			Assert.fail("expected EOFException");
+		} catch(EOFException e) {
+			Assert.assertEquals(4, reader.position());
+		}
+
+		// non-minimal varints advance by the bytes read, not the minimal size of the value
+		byte[] padded = { (byte)0x80, 0x00, 0x07, (byte)0x81, (byte)0x80, 0x00, 0x09, 0, 0, 0, 0, 0, 0, 0, 0, 0 };
+		reader = new BytesReader(padded);
+		Assert.assertEquals(0, reader.readVarInt());
+		Assert.assertEquals(2, reader.position());
+		Assert.assertEquals(7, reader.readVarInt());
+		Assert.assertEquals(1L, reader.readVarLong());
+		Assert.assertEquals(6, reader.position());
+		Assert.assertEquals(9, reader.readVarLong());
+	}
+
+
+	@Test
+	public void nonBlockingChannelTest() throws IOException {
+		Pipe pipe = Pipe.open();
+		try {
+			pipe.source().configureBlocking(false);
+			pipe.sink().configureBlocking(false);
+			try {
+				new BytesReader(pipe.source(), 64);
+				Assert.fail("expected IllegalArgumentException");
+			} catch(IllegalArgumentException e) {
+				// expected
+			}
+			try {
+				new BytesWriter(pipe.sink(), 64);
+				Assert.fail("expected IllegalArgumentException");
+			} catch(IllegalArgumentException e) {
+				// expected
+			}
+
+			// blocking mode channels are accepted
+			pipe.sink().configureBlocking(true);
+			pipe.source().configureBlocking(true);
+			BytesWriter writer = new BytesWriter(pipe.sink(), 64);
+			writer.writeInt(42);
+			writer.flush();
+			Assert.assertEquals(42, new BytesReader(pipe.source(), 64).readInt());
+		} finally {
+			pipe.sink().close();
+			pipe.source().close();
+		}
+	}
+
+
+	private static void writeRecords(BytesWriter writer, long[] longs) throws IOException {
+		StringBuilder longStr = new StringBuilder();
+		for(int i = 0; i < 40; i++) {
+			longStr.append("caf\u00e9 ").append(i);
+		}
+		writer.writeInt(0x7FFFFFFF).writeShort((short)-2).writeByte((byte)7).writeBoolean(true);
+		writer.order(ByteOrder.LITTLE_ENDIAN).writeLong(-3L).writeDouble(2.5).writeFloat(-1.5f).order(ByteOrder.BIG_ENDIAN);
+		writer.writeVarInt(300).writeSignedVarInt(-70).writeVarLong(1L << 50).writeSignedVarLong(-1L);
+		writer.writeString("").writeString("\u65e5\u672c \ud83d\ude00").writeString(longStr);
+		writer.writeLongs(longs, 0, longs.length);
+		writer.order(ByteOrder.LITTLE_ENDIAN).writeInts(new int[] { 1, -2, 3 }, 0, 3).order(ByteOrder.BIG_ENDIAN);
+		writer.writeBytes(new byte[] { 9, 8, 7 });
+		writer.writeVarInt(5);
+	}
+
+
+	private static void readRecords(BytesReader reader, long[] longs) throws IOException {
+		Assert.assertEquals(0x7FFFFFFF, reader.readInt());
+		Assert.assertEquals(-2, reader.readShort());
+		Assert.assertEquals(7, reader.readByte());
+		Assert.assertTrue(reader.readBoolean());
+		reader.order(ByteOrder.LITTLE_ENDIAN);
+		Assert.assertEquals(-3L, reader.readLong());
+		Assert.assertEquals(2.5, reader.readDouble(), 0);
+		Assert.assertEquals(-1.5f, reader.readFloat(), 0);
+		reader.order(ByteOrder.BIG_ENDIAN);
+		Assert.assertEquals(300, reader.readVarInt());
+		Assert.assertEquals(-70, reader.readSignedVarInt());
+		Assert.assertEquals(1L << 50, reader.readVarLong());
+		Assert.assertEquals(-1L, reader.readSignedVarLong());
+		Assert.assertEquals("", reader.readString());
+		char[] chars = new char[16];
+		int charCount = reader.readChars(chars, 0);
+		Assert.assertEquals("\u65e5\u672c \ud83d\ude00", new String(chars, 0, charCount));
+		Assert.assertTrue(reader.readString().startsWith("caf\u00e9 0caf\u00e9 1"));
+		long[] longsRes = new long[longs.length];
+		reader.readLongs(longsRes, 0, longsRes.length);
+		Assert.assertArrayEquals(longs, longsRes);
+		int[] intsRes = new int[3];
+		reader.order(ByteOrder.LITTLE_ENDIAN).readInts(intsRes, 0, 3);
+		reader.order(ByteOrder.BIG_ENDIAN);
+		Assert.assertArrayEquals(new int[] { 1, -2, 3 }, intsRes);
+		byte[] bytesRes = new byte[3];
+		reader.readBytes(bytesRes);
+		Assert.assertArrayEquals(new byte[] { 9, 8, 7 }, bytesRes);
+		// a 1 byte varint at the very end of the input
+		Assert.assertEquals(5, reader.readVarInt());
+		Assert.assertFalse(reader.hasRemaining());
+	}
+
+}
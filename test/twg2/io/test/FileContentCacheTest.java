@@ -0,0 +1,99 @@
+package twg2.io.test;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import twg2.io.files.FileContentCache;
+
+/**
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+public class FileContentCacheTest {
+	private Charset defaultCharset = Charset.forName("UTF-8");
+
+	@Test
+	public void readThroughTest() throws IOException {
+		FileContentCache cache = new FileContentCache(1024);
+		Path tmpFile = Files.createTempFile("file-content-cache-test", ".txt");
+		try {
+			Files.write(tmpFile, "cached \u00e9 content".getBytes(defaultCharset));
+
+			String str1 = cache.readString(tmpFile);
+			String str2 = cache.readString(tmpFile);
+			Assert.assertEquals("cached \u00e9 content", str1);
+			Assert.assertSame(str1, str2);
+			Assert.assertEquals(1, cache.getMissCount());
+			Assert.assertEquals(1, cache.getHitCount());
+
+			// bytes are cached separately and returned as copies
+			byte[] bts1 = cache.readBytes(tmpFile);
+			byte[] bts2 = cache.readBytes(tmpFile);
+			Assert.assertNotSame(bts1, bts2);
+			Assert.assertArrayEquals(bts1, bts2);
+			Assert.assertEquals(2, cache.getCachedFileCount());
+			Assert.assertEquals(2, cache.getHitCount());
+
+			// same size, different content and modified time
+			FileTime modified = Files.getLastModifiedTime(tmpFile);
+			Files.write(tmpFile, "CACHED \u00e9 CONTENT".getBytes(defaultCharset));
+			Files.setLastModifiedTime(tmpFile, FileTime.fromMillis(modified.toMillis() + 5000));
+			Assert.assertEquals("CACHED \u00e9 CONTENT", cache.readString(tmpFile));
+			Assert.assertEquals(3, cache.getMissCount());
+
+			cache.invalidate(tmpFile);
+			Assert.assertEquals(0, cache.getCachedFileCount());
+			Assert.assertEquals(0, cache.getCachedBytes());
+		} finally {
+			Files.delete(tmpFile);
+		}
+	}
+
+
+	@Test
+	public void evictionTest() throws IOException {
+		FileContentCache cache = new FileContentCache(250);
+		Path[] files = new Path[3];
+		try {
+			for(int i = 0; i < files.length; i++) {
+				files[i] = Files.createTempFile("file-content-cache-test", ".bin");
+				Files.write(files[i], new byte[100]);
+			}
+
+			cache.readBytes(files[0]);
+			cache.readBytes(files[1]);
+			// touch the first file so the second is least recently used
+			cache.readBytes(files[0]);
+			cache.readBytes(files[2]);
+			Assert.assertEquals(1, cache.getEvictionCount());
+			Assert.assertEquals(200, cache.getCachedBytes());
+
+			cache.readBytes(files[0]);
+			cache.readBytes(files[2]);
+			Assert.assertEquals(3, cache.getHitCount());
+			cache.readBytes(files[1]);
+			Assert.assertEquals(4, cache.getMissCount());
+
+			// contents larger than the cache are not cached
+			Files.write(files[0], new byte[300]);
+			Assert.assertEquals(300, cache.readBytes(files[0]).length);
+			Assert.assertTrue(cache.getCachedBytes() <= 250);
+
+			cache.clear();
+			Assert.assertEquals(0, cache.getCachedBytes());
+		} finally {
+			for(Path file : files) {
+				if(file != null) {
+					Files.delete(file);
+				}
+			}
+		}
+	}
+
+}
@@ -0,0 +1,240 @@
+package twg2.io.test;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import twg2.io.files.BufferPool;
+import twg2.io.files.FileReadAsync;
+import twg2.io.files.FileReadBatch;
+import twg2.io.files.FileReadPool;
+
+/**
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+public class FileReadPoolTest {
+	private Charset defaultCharset = Charset.forName("UTF-8");
+
+	@Test
+	public void bufferPoolTest() {
+		BufferPool pool = new BufferPool(8192, 2);
+
+		byte[] buf1 = pool.leaseBytes(1000);
+		byte[] buf2 = pool.leaseBytes(1025);
+		Assert.assertEquals(1024, buf1.length);
+		Assert.assertEquals(2048, buf2.length);
+
+		pool.release(buf1);
+		pool.release(buf2);
+		Assert.assertEquals(3072, pool.getRetainedBytes());
+
+		Assert.assertSame(buf1, pool.leaseBytes(10));
+		Assert.assertSame(buf2, pool.leaseBytes(2000));
+		Assert.assertEquals(0, pool.getRetainedBytes());
+		Assert.assertEquals(2, pool.getLeaseHitCount());
+
+		// exceeds the retained byte budget
+		pool.release(pool.leaseBytes(16000));
+		Assert.assertEquals(0, pool.getRetainedBytes());
+		Assert.assertEquals(1, pool.getDropCount());
+
+		// arrays which don't match a size class are not pooled
+		pool.release(new byte[1500]);
+		Assert.assertEquals(0, pool.getRetainedBytes());
+		Assert.assertEquals(2, pool.getDropCount());
+	}
+
+
+	@Test
+	public void readBomTest() throws IOException {
+		FileReadPool reader = new FileReadPool();
+		String str = "UTF-16 \u00e9 content";
+		Path tmpFile = Files.createTempFile("file-read-pool-test", ".txt");
+		try {
+			Files.write(tmpFile, ("\ufeff" + str).getBytes(Charset.forName("UTF-16LE")));
+			Assert.assertEquals(str, reader.readString(tmpFile));
+
+			// single-byte charsets don't switch on a UTF-16 BOM
+			Files.write(tmpFile, new byte[] { (byte)0xFF, (byte)0xFE, 'a' });
+			Assert.assertEquals("\u00ff\u00fea", reader.readString(tmpFile, Charset.forName("ISO-8859-1")));
+		} finally {
+			Files.delete(tmpFile);
+		}
+	}
+
+
+	@Test
+	public void concurrentReadTest() throws Exception {
+		FileReadPool reader = new FileReadPool(new BufferPool(1024 * 1024, 4), null);
+
+		String str = "pooled file \u00e9 content ";
+		List<Path> files = new ArrayList<>();
+		List<String> expected = new ArrayList<>();
+		ExecutorService exec = Executors.newFixedThreadPool(8);
+		try {
+			for(int i = 0; i < 16; i++) {
+				StringBuilder sb = new StringBuilder();
+				for(int j = 0; j < i * 50; j++) {
+					sb.append(str);
+				}
+				Path tmpFile = Files.createTempFile("file-read-pool-test", ".txt");
+				Files.write(tmpFile, sb.toString().getBytes(defaultCharset));
+				files.add(tmpFile);
+				expected.add(sb.toString());
+			}
+
+			List<Future<Boolean>> results = new ArrayList<>();
+			for(int k = 0; k < 200; k++) {
+				int idx = k % files.size();
+				results.add(exec.submit(() -> {
+					String res = reader.readString(files.get(idx));
+					byte[] bytes = reader.readBytes(files.get(idx));
+					return expected.get(idx).equals(res) && expected.get(idx).equals(new String(bytes, defaultCharset));
+				}));
+			}
+			for(Future<Boolean> res : results) {
+				Assert.assertTrue(res.get());
+			}
+
+			Assert.assertTrue(reader.getBufferPool().getRetainedBytes() <= 1024 * 1024);
+			Assert.assertTrue(reader.getBufferPool().getLeaseHitCount() > 0);
+		} finally {
+			exec.shutdown();
+			for(Path file : files) {
+				Files.delete(file);
+			}
+		}
+	}
+
+
+	@Test
+	public void asyncReadTest() throws Exception {
+		FileReadAsync reader = new FileReadAsync(new BufferPool(1024 * 1024, 4), null, 4, null);
+
+		String str = "async file \u00e9 content ";
+		List<Path> files = new ArrayList<>();
+		List<String> expected = new ArrayList<>();
+		try {
+			for(int i = 0; i < 12; i++) {
+				StringBuilder sb = new StringBuilder();
+				for(int j = 0; j < i * 300; j++) {
+					sb.append(str);
+				}
+				Path tmpFile = Files.createTempFile("file-read-async-test", ".txt");
+				Files.write(tmpFile, sb.toString().getBytes(defaultCharset));
+				files.add(tmpFile);
+				expected.add(sb.toString());
+			}
+
+			List<CompletableFuture<String>> strs = new ArrayList<>();
+			List<CompletableFuture<byte[]>> bytes = new ArrayList<>();
+			for(int k = 0; k < 100; k++) {
+				Path file = files.get(k % files.size());
+				strs.add(reader.readString(file));
+				bytes.add(reader.readBytes(file));
+				Assert.assertTrue(reader.getOutstandingReads() <= 4);
+			}
+			for(int k = 0; k < 100; k++) {
+				String exp = expected.get(k % files.size());
+				Assert.assertEquals(exp, strs.get(k).get());
+				Assert.assertEquals(exp, new String(bytes.get(k).get(), defaultCharset));
+			}
+
+			// errors complete the future exceptionally and free the read slot
+			CompletableFuture<byte[]> missing = reader.readBytes(files.get(0).resolveSibling("file-read-async-test-missing.txt"));
+			try {
+				missing.get();
+				Assert.fail("expected missing file read to fail");
+			} catch(ExecutionException e) {
+				Assert.assertTrue(e.getCause() instanceof IOException);
+			}
+			Assert.assertEquals(expected.get(3), reader.readString(files.get(3)).get());
+			Assert.assertEquals(0, reader.getOutstandingReads());
+			Assert.assertEquals(0, reader.getPendingReads());
+		} finally {
+			for(Path file : files) {
+				Files.delete(file);
+			}
+		}
+	}
+
+
+	@Test
+	public void batchReadTest() throws Exception {
+		ExecutorService exec = Executors.newFixedThreadPool(3);
+		FileReadBatch batch = new FileReadBatch(new FileReadPool(), exec, 4);
+
+		String str = "batch file \u00e9 content ";
+		List<Path> files = new ArrayList<>();
+		List<String> expected = new ArrayList<>();
+		try {
+			for(int i = 0; i < 20; i++) {
+				StringBuilder sb = new StringBuilder();
+				// mix of large and small files
+				for(int j = 0, n = (i % 5 == 0 ? 5000 : i * 10); j < n; j++) {
+					sb.append(str);
+				}
+				Path tmpFile = Files.createTempFile("file-read-batch-test", ".txt");
+				Files.write(tmpFile, sb.toString().getBytes(defaultCharset));
+				files.add(tmpFile);
+				expected.add(sb.toString());
+			}
+			Path missing = files.get(0).resolveSibling("file-read-batch-test-missing.txt");
+			List<Path> paths = new ArrayList<>(files);
+			paths.add(7, missing);
+
+			List<FileReadBatch.Result<String>> res = batch.readStrings(paths);
+			Assert.assertEquals(paths.size(), res.size());
+			for(int i = 0, k = 0; i < paths.size(); i++) {
+				FileReadBatch.Result<String> r = res.get(i);
+				Assert.assertEquals(paths.get(i), r.getPath());
+				if(i == 7) {
+					Assert.assertFalse(r.isSuccess());
+					Assert.assertTrue(r.getError() instanceof IOException);
+					Assert.assertNull(r.getValue());
+				}
+				else {
+					Assert.assertTrue(r.isSuccess());
+					Assert.assertEquals(expected.get(k++), r.getValue());
+				}
+			}
+
+			List<FileReadBatch.Result<byte[]>> bytes = batch.readBytes(files);
+			for(int i = 0; i < files.size(); i++) {
+				Assert.assertEquals(expected.get(i), new String(bytes.get(i).getValue(), defaultCharset));
+			}
+
+			Assert.assertEquals(0, batch.readBytes(new ArrayList<>()).size());
+
+			// a batch started from the executor's only thread must not wait on its own queued worker tasks
+			ExecutorService single = Executors.newSingleThreadExecutor();
+			try {
+				FileReadBatch nested = new FileReadBatch(new FileReadPool(), single, 4);
+				List<FileReadBatch.Result<byte[]>> nestedRes = single.submit(() -> nested.readBytes(files)).get(10, TimeUnit.SECONDS);
+				Assert.assertEquals(files.size(), nestedRes.size());
+				Assert.assertEquals(expected.get(3), new String(nestedRes.get(3).getValue(), defaultCharset));
+			} finally {
+				single.shutdown();
+			}
+		} finally {
+			exec.shutdown();
+			for(Path file : files) {
+				Files.delete(file);
+			}
+		}
+	}
+
+}
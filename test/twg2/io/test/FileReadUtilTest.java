@@ -1,17 +1,29 @@
 package twg2.io.test;
 
 import java.io.ByteArrayInputStream;
+import java.io.FileInputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.StringReader;
 import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.CharsetDecoder;
 import java.nio.charset.CodingErrorAction;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32C;
 
 import org.junit.Assert;
 import org.junit.Test;
 
 import twg2.arrays.ArrayUtil;
+import twg2.io.files.CharArrayView;
+import twg2.io.files.FileReadMetrics;
 import twg2.io.files.FileReadUtil;
 
 /**
@@ -104,6 +116,465 @@ public class FileReadUtilTest {
 	}
 
 
+	@Test
+	public void readIncrementalTest() throws IOException {
+		FileReadUtil inst = new FileReadUtil(null, 16);
+		inst.setIncrementalDecode(true);
+
+		String str1 = "\u00e9\u00e8 multi-byte \u20ac\u20ac\u20ac chars split across chunk boundaries \ud83d\ude00 \u4e2d\u6587";
+		String str2 = str1 + str1 + str1 + str1 + str1 + str1 + str1 + str1;
+		byte[] bom = { (byte)0xEF, (byte)0xBB, (byte)0xBF };
+
+		for(String str : new String[] { "", "a", str1, str2 }) {
+			byte[] bts = str.getBytes(defaultCharset);
+			for(int limit : new int[] { 0, 1, 3, 7 }) {
+				Assert.assertEquals(str, inst.readString(inputStream(bts, limit)));
+				if(bts.length > 0) {
+					Assert.assertEquals(str, new String(inst.readChars(inputStream(ArrayUtil.concat(bom, bts), limit), 16)));
+				}
+			}
+		}
+
+		// the byte buffer is reused for each chunk and never grows to the size of the stream
+		Assert.assertEquals(16, inst.getStats().getByteCacheSize());
+
+		Path tmpFile = Files.createTempFile("file-read-util-test", ".txt");
+		try {
+			Files.write(tmpFile, str2.getBytes(defaultCharset));
+			Assert.assertEquals(str2, inst.readString(tmpFile));
+			Assert.assertEquals(16, inst.getStats().getByteCacheSize());
+		} finally {
+			Files.delete(tmpFile);
+		}
+	}
+
+
+	@Test
+	public void asciiFastPathTest() throws IOException {
+		// non-ASCII byte at every position in words, blocks, and trailing bytes
+		for(int size : new int[] { 1, 7, 8, 9, 600, 1030 }) {
+			byte[] bts = new byte[size];
+			Arrays.fill(bts, (byte)'a');
+			Assert.assertTrue(FileReadUtil.isAscii(ByteBuffer.wrap(bts)));
+			for(int i = 0; i < size; i++) {
+				bts[i] = (byte)0x80;
+				Assert.assertFalse(FileReadUtil.isAscii(ByteBuffer.wrap(bts)));
+				Assert.assertTrue(FileReadUtil.isAscii(ByteBuffer.wrap(bts, 0, i)));
+				bts[i] = (byte)'a';
+			}
+		}
+
+		FileReadUtil inst = new FileReadUtil(null, 16);
+		String ascii = "plain ASCII text which is longer than the chunk size";
+		String latin1 = "caf\u00e9 na\u00efve";
+		Charset iso88591 = Charset.forName("ISO-8859-1");
+		Charset usAscii = Charset.forName("US-ASCII");
+
+		Assert.assertEquals(ascii, inst.readString(inputStream(ascii.getBytes(defaultCharset), 0)));
+		Assert.assertEquals(ascii, new String(inst.readChars(inputStream(ascii.getBytes(defaultCharset), 0))));
+		Assert.assertEquals(latin1, inst.readString(inputStream(latin1.getBytes(defaultCharset), 0)));
+		Assert.assertEquals(latin1, inst.readString(inputStream(latin1.getBytes(iso88591), 0), iso88591.newDecoder(), 16));
+		Assert.assertEquals(latin1, new String(inst.readChars(inputStream(latin1.getBytes(iso88591), 0), iso88591.newDecoder(), 16)));
+		Assert.assertEquals("caf\ufffd na\ufffdve", inst.readString(inputStream(latin1.getBytes(iso88591), 0), usAscii.newDecoder().onMalformedInput(CodingErrorAction.REPLACE), 16));
+	}
+
+
+	@Test
+	public void decodeEstimateTest() throws IOException {
+		FileReadUtil inst = new FileReadUtil(null, 16);
+		Charset utf16 = Charset.forName("UTF-16LE");
+		CharsetDecoder utf16Decoder = utf16.newDecoder();
+
+		String str = "UTF-16 text \u00e9\u4e2d which decodes to half as many chars as bytes";
+		for(int i = 0; i < 3; i++) {
+			Assert.assertEquals(str, inst.readString(inputStream(str.getBytes(utf16), 0), utf16Decoder, 16));
+		}
+		// char cache sized exactly for UTF-16 on the first attempt
+		Assert.assertEquals(str.length(), inst.getStats().getCharCacheSize());
+		Assert.assertEquals(3, inst.getStats().getDecodeCount());
+		Assert.assertEquals(0, inst.getStats().getDecodeEstimateMissCount());
+
+		String mixed = "mixed \u00e9\u00e8\u20ac UTF-8 text";
+		Assert.assertEquals(mixed, inst.readString(inputStream(mixed.getBytes(defaultCharset), 0)));
+		Assert.assertEquals(0, inst.getStats().getDecodeEstimateMissCount());
+	}
+
+
+	@Test
+	public void bomDetectionTest() throws IOException {
+		FileReadUtil inst = new FileReadUtil(null, 16);
+
+		String str = "BOM text \u00e9\u20ac \ud83d\ude00 longer than the chunk size";
+		Object[][] boms = {
+			{ "UTF-8", new byte[] { (byte)0xEF, (byte)0xBB, (byte)0xBF } },
+			{ "UTF-16BE", new byte[] { (byte)0xFE, (byte)0xFF } },
+			{ "UTF-16LE", new byte[] { (byte)0xFF, (byte)0xFE } },
+			{ "UTF-32BE", new byte[] { 0, 0, (byte)0xFE, (byte)0xFF } },
+			{ "UTF-32LE", new byte[] { (byte)0xFF, (byte)0xFE, 0, 0 } },
+		};
+
+		for(boolean incremental : new boolean[] { false, true }) {
+			inst.setIncrementalDecode(incremental);
+			for(Object[] bom : boms) {
+				byte[] bts = ArrayUtil.concat((byte[])bom[1], str.getBytes(Charset.forName((String)bom[0])));
+				Assert.assertEquals(str, inst.readString(inputStream(bts, 0)));
+				Assert.assertEquals(str, new String(inst.readChars(inputStream(bts, 3))));
+				Assert.assertEquals(str, inst.readCharSequence(inputStream(bts, 0), defaultCharsetDecoder, 16).toString());
+			}
+		}
+
+		// a UTF-16 BOM does not override a single-byte charset, a UTF-8 BOM is still skipped
+		FileReadUtil latin1 = new FileReadUtil(Charset.forName("ISO-8859-1"), 16);
+		for(boolean incremental : new boolean[] { false, true }) {
+			latin1.setIncrementalDecode(incremental);
+			Assert.assertEquals("\u00ff\u00feab", latin1.readString(inputStream(new byte[] { (byte)0xFF, (byte)0xFE, 'a', 'b' }, 0)));
+			Assert.assertEquals("ab", latin1.readString(inputStream(new byte[] { (byte)0xEF, (byte)0xBB, (byte)0xBF, 'a', 'b' }, 0)));
+		}
+	}
+
+
+	@Test
+	public void retentionPolicyTest() throws IOException {
+		FileReadUtil inst = new FileReadUtil(null, 16);
+		inst.setRetentionPolicy(Long.MAX_VALUE, 2);
+
+		byte[] large = byteRange(100);
+		byte[] small = byteRange(20);
+		String largeStr = new String(new char[1000]).replace('\0', 'a');
+		String smallStr = "small";
+
+		// one large read in a window of two reads does not shrink the caches
+		Assert.assertArrayEquals(large, inst.readBytes(inputStream(large, 0)));
+		Assert.assertEquals(largeStr, new String(inst.readChars(inputStream(largeStr.getBytes(defaultCharset), 0))));
+		Assert.assertEquals(0, inst.getStats().getCacheShrinkCount());
+		long peakRetained = inst.getStats().getRetainedCacheBytes();
+
+		// two small reads shrink the caches to the window's high-water mark
+		Assert.assertArrayEquals(small, inst.readBytes(inputStream(small, 0)));
+		Assert.assertEquals(smallStr, inst.readString(new StringReader(smallStr)));
+		Assert.assertEquals(2, inst.getStats().getCacheShrinkCount());
+		Assert.assertTrue(inst.getStats().getRetainedCacheBytes() < peakRetained);
+
+		// caches larger than the max retained bytes are released after each read
+		inst.setRetentionPolicy(500, 0);
+		Assert.assertEquals(largeStr, inst.readString(inputStream(largeStr.getBytes(defaultCharset), 0)));
+		Assert.assertTrue(inst.getStats().getRetainedCacheBytes() <= 500);
+		CharArrayView view = inst.readCharSequence(inputStream(largeStr.getBytes(defaultCharset), 0));
+		Assert.assertEquals(0, inst.getStats().getRetainedCacheBytes());
+		// the view still references the released char cache
+		Assert.assertEquals(largeStr, view.toString());
+		Assert.assertEquals(smallStr, inst.readString(inputStream(smallStr.getBytes(defaultCharset), 0)));
+	}
+
+
+	@Test
+	public void readCharSequenceTest() throws IOException {
+		FileReadUtil inst = new FileReadUtil(null, 64);
+
+		String str1 = "this string is longer than sixteen characters";
+		String str2 = "short";
+
+		CharArrayView view = inst.readCharSequence(inputStream(str1.getBytes(defaultCharset), 10));
+		Assert.assertSame(getFileReadUtilCharBuf(inst), view.array());
+		Assert.assertEquals(str1, view.toString());
+		Assert.assertEquals(str1.length(), view.length());
+		Assert.assertEquals('l', view.charAt(15));
+		Assert.assertEquals("string", view.subSequence(5, 11).toString());
+
+		// the view is reused and only valid until the next read
+		CharArrayView view2 = inst.readCharSequence(new StringReader(str2));
+		Assert.assertSame(view, view2);
+		Assert.assertEquals(str2, view2.toString());
+
+		Assert.assertEquals("", inst.readCharSequence(inputStream(new byte[0], 0)).toString());
+	}
+
+
+	@Test
+	public void readLinesTest() throws IOException {
+		FileReadUtil inst = new FileReadUtil(null, 64);
+
+		String str = "first line\r\nsecond \u00e9\n\nfourth\rfifth line which is longer than the chunk size of sixty four chars\n";
+		List<String> lines = new ArrayList<>();
+		CharArrayView[] views = new CharArrayView[1];
+		int cnt = inst.readLines(inputStream(str.getBytes(defaultCharset), 10), (line, idx) -> {
+			Assert.assertEquals(lines.size(), idx);
+			Assert.assertSame(getFileReadUtilCharBuf(inst), line.array());
+			if(views[0] != null) {
+				Assert.assertSame(views[0], line);
+			}
+			views[0] = line;
+			lines.add(line.toString());
+			return true;
+		});
+		Assert.assertEquals(5, cnt);
+		Assert.assertEquals(Arrays.asList("first line", "second \u00e9", "", "fourth", "fifth line which is longer than the chunk size of sixty four chars"), lines);
+
+		// stop early
+		lines.clear();
+		cnt = inst.readLines(new StringReader("a\nb\nc"), (line, idx) -> {
+			lines.add(line.toString());
+			return idx < 1;
+		});
+		Assert.assertEquals(2, cnt);
+		Assert.assertEquals(Arrays.asList("a", "b"), lines);
+
+		// trailing text without a terminator and a lone '\r' at the end
+		lines.clear();
+		inst.readLines(new StringReader("\nlast"), (line, idx) -> lines.add(line.toString()));
+		Assert.assertEquals(Arrays.asList("", "last"), lines);
+		lines.clear();
+		inst.readLines(new StringReader("end\r"), (line, idx) -> lines.add(line.toString()));
+		Assert.assertEquals(Arrays.asList("end"), lines);
+
+		Assert.assertEquals(0, inst.readLines(inputStream(new byte[0], 0), (line, idx) -> true));
+	}
+
+
+	@Test
+	public void readMappedTest() throws IOException {
+		FileReadUtil inst = new FileReadUtil(null, 64);
+
+		String str = "mapped \u00e9\u00e8 file content which is longer than sixty four bytes so the char buffer must grow past the chunk size";
+		byte[] bts = str.getBytes(defaultCharset);
+		Path tmpFile = Files.createTempFile("file-read-util-test", ".txt");
+		try {
+			Files.write(tmpFile, bts);
+
+			ByteBuffer mapped = inst.readMapped(tmpFile);
+			Assert.assertTrue(mapped.isReadOnly());
+			Assert.assertEquals(bts.length, mapped.remaining());
+
+			// stream path
+			inst.setMappedReadThreshold(Long.MAX_VALUE);
+			Assert.assertArrayEquals(bts, inst.readBytes(tmpFile));
+			Assert.assertEquals(str, inst.readString(tmpFile));
+
+			// mapped path
+			inst.setMappedReadThreshold(0);
+			Assert.assertArrayEquals(bts, inst.readBytes(tmpFile));
+			Assert.assertArrayEquals(bts, inst.readBytes(tmpFile.toFile()));
+			Assert.assertEquals(str, inst.readString(tmpFile));
+			Assert.assertEquals(str, inst.readString(tmpFile.toFile()));
+			Assert.assertEquals(str, new String(inst.readChars(tmpFile)));
+		} finally {
+			Files.delete(tmpFile);
+		}
+	}
+
+
+	@Test
+	public void readDirectTest() throws IOException {
+		FileReadUtil inst = new FileReadUtil(null, 64);
+
+		byte[][] byteArys = { byteRange(200), byteRange(0), byteRange(30), ArrayUtil.concat(byteRange(128), byteRange(128), byteRange(128)) };
+		Path tmpFile = Files.createTempFile("file-read-util-test", ".bin");
+		try {
+			for(byte[] bts : byteArys) {
+				Files.write(tmpFile, bts);
+				ByteBuffer buf = inst.readDirect(tmpFile);
+				Assert.assertTrue(buf.isDirect());
+				Assert.assertTrue(buf.isReadOnly());
+				Assert.assertEquals(0, buf.position());
+				byte[] res = new byte[buf.remaining()];
+				buf.get(res);
+				Assert.assertArrayEquals(bts, res);
+
+				// unknown size streams grow the direct buffer
+				ByteBuffer buf2 = inst.readDirect(inputStream(bts, 0));
+				byte[] res2 = new byte[buf2.remaining()];
+				buf2.get(res2);
+				Assert.assertArrayEquals(bts, res2);
+			}
+			Assert.assertTrue(inst.getStats().getDirectCacheSize() >= 384);
+			Assert.assertEquals(0, inst.getStats().getByteCacheSize());
+			Assert.assertTrue(inst.getStats().getDirectCacheResizeCount() > 0);
+			Assert.assertEquals(0, inst.getStats().getByteCacheResizeCount());
+
+			// file streams are read through their channel
+			try(FileInputStream fis = new FileInputStream(tmpFile.toFile())) {
+				Assert.assertEquals(byteArys[3][0] & 0xFF, fis.read());
+				ByteBuffer buf = inst.readDirect(fis);
+				Assert.assertEquals(byteArys[3].length - 1, buf.remaining());
+				Assert.assertEquals(byteArys[3][1], buf.get(0));
+			}
+		} finally {
+			Files.delete(tmpFile);
+		}
+	}
+
+
+	@Test
+	public void adaptiveChunkSizeTest() throws IOException {
+		FileReadUtil inst = new FileReadUtil(null, 64);
+		FileReadUtil fixed = new FileReadUtil(null, 64);
+		fixed.setAdaptiveChunkSize(false);
+		// drop the cached buffers after every read so each read has to size a new buffer
+		inst.setRetentionPolicy(0, 0);
+		fixed.setRetentionPolicy(0, 0);
+
+		byte[] bts = byteRange(5000);
+		for(int i = 0; i < 10; i++) {
+			Assert.assertArrayEquals(bts, inst.readBytes(unknownSizeStream(bts)));
+			Assert.assertArrayEquals(bts, fixed.readBytes(unknownSizeStream(bts)));
+		}
+		Assert.assertEquals(5000, inst.getStats().getLearnedReadSize());
+		Assert.assertEquals(1250, inst.getStats().getLearnedChunkSize());
+		Assert.assertEquals(10, inst.getStats().getReadSizeHistoryCount());
+		Assert.assertEquals(0, fixed.getStats().getLearnedReadSize());
+
+		// once learned, a read of the common size allocates its buffer once
+		long resizes = inst.getStats().getByteCacheResizeCount();
+		inst.readBytes(unknownSizeStream(bts));
+		Assert.assertEquals(resizes + 1, inst.getStats().getByteCacheResizeCount());
+		long fixedResizes = fixed.getStats().getByteCacheResizeCount();
+		fixed.readBytes(unknownSizeStream(bts));
+		Assert.assertTrue(fixed.getStats().getByteCacheResizeCount() - fixedResizes > 1);
+
+		// the 90th percentile ignores occasional large reads
+		inst.readBytes(unknownSizeStream(byteRange(100)));
+		inst.readBytes(unknownSizeStream(ArrayUtil.concat(bts, bts, bts, bts)));
+		Assert.assertEquals(5000, inst.getStats().getLearnedReadSize());
+		Assert.assertArrayEquals(bts, inst.readBytes(unknownSizeStream(bts)));
+
+		// incremental text reads of unknown size keep updating the history after the first read
+		FileReadUtil text = new FileReadUtil(null, 64);
+		text.setIncrementalDecode(true);
+		String small = new String(new char[300]).replace('\0', 'a');
+		String large = new String(new char[3000]).replace('\0', 'b');
+		Assert.assertEquals(small, text.readString(unknownSizeStream(small.getBytes(defaultCharset))));
+		Assert.assertEquals(300, text.getStats().getLearnedReadSize());
+		for(int i = 0; i < 3; i++) {
+			Assert.assertEquals(large, text.readString(unknownSizeStream(large.getBytes(defaultCharset))));
+		}
+		Assert.assertEquals(4, text.getStats().getReadSizeHistoryCount());
+		Assert.assertEquals(3000, text.getStats().getLearnedReadSize());
+	}
+
+
+	@Test
+	public void metricsTest() throws Exception {
+		FileReadMetrics metrics = new FileReadMetrics();
+		FileReadUtil inst = new FileReadUtil(null, 64);
+		inst.setMetrics(metrics);
+
+		String str = "metrics \u00e9 test content which is longer than the sixty four byte chunk size of the reader";
+		byte[] bts = str.getBytes(defaultCharset);
+		inst.readBytes(inputStream(bts, 10));
+		inst.readString(inputStream(bts, 0));
+		inst.readChars(new StringReader("reader"));
+
+		FileReadUtil.Stats stats = inst.getStats();
+		Assert.assertEquals(3, stats.getReadCount());
+		Assert.assertEquals(2L * bts.length, stats.getBytesRead());
+		Assert.assertEquals(str.length() + "reader".length(), stats.getCharsDecoded());
+		Assert.assertTrue(stats.getReadNanos() > 0);
+		Assert.assertTrue(stats.getDecodeNanos() > 0);
+		long[] histogram = stats.getSizeHistogram();
+		Assert.assertEquals(2, histogram[FileReadMetrics.sizeBucket(bts.length)]);
+		Assert.assertEquals(1, histogram[3]);
+
+		// readers on other threads aggregate into the same metrics
+		Thread thread = new Thread(() -> {
+			FileReadUtil inst2 = new FileReadUtil(null, 64);
+			inst2.setMetrics(metrics);
+			try {
+				inst2.readBytes(inputStream(bts, 0));
+			} catch(IOException e) {
+				throw new RuntimeException(e);
+			}
+		});
+		thread.start();
+		thread.join();
+
+		Assert.assertEquals(4, metrics.getReadCount());
+		Assert.assertEquals(3L * bts.length, metrics.getBytesRead());
+		Assert.assertEquals(stats.getCharsDecoded(), metrics.getCharsDecoded());
+		Assert.assertEquals(3, metrics.getSizeHistogram()[FileReadMetrics.sizeBucket(bts.length)]);
+
+		metrics.reset();
+		Assert.assertEquals(0, metrics.getReadCount());
+		Assert.assertEquals(0, FileReadMetrics.sizeBucket(0));
+		Assert.assertEquals(1, FileReadMetrics.sizeBucket(1));
+		Assert.assertEquals(11, FileReadMetrics.sizeBucket(1024));
+	}
+
+
+	@Test
+	public void readChecksumTest() throws IOException {
+		FileReadUtil inst = new FileReadUtil(null, 64);
+
+		String str = "checksum \u00e9 content which is longer than the sixty four byte chunk size of the reader";
+		byte[] bts = ArrayUtil.concat(str.getBytes(defaultCharset), str.getBytes(defaultCharset), str.getBytes(defaultCharset));
+		CRC32C expected = new CRC32C();
+		expected.update(bts, 0, bts.length);
+
+		Path tmpFile = Files.createTempFile("file-read-util-test", ".txt");
+		try {
+			Files.write(tmpFile, bts);
+
+			CRC32C crc = new CRC32C();
+			Assert.assertArrayEquals(bts, inst.readBytes(tmpFile, crc));
+			Assert.assertEquals(expected.getValue(), crc.getValue());
+
+			crc.reset();
+			Assert.assertArrayEquals(bts, inst.readBytes(inputStream(bts, 10), crc));
+			Assert.assertEquals(expected.getValue(), crc.getValue());
+
+			crc.reset();
+			Assert.assertEquals(str + str + str, inst.readString(tmpFile, crc));
+			Assert.assertEquals(expected.getValue(), crc.getValue());
+
+			// memory mapped and incremental decode paths
+			inst.setMappedReadThreshold(0);
+			crc.reset();
+			Assert.assertArrayEquals(bts, inst.readBytes(tmpFile, crc));
+			Assert.assertEquals(expected.getValue(), crc.getValue());
+			crc.reset();
+			Assert.assertEquals(str + str + str, inst.readString(tmpFile, crc));
+			Assert.assertEquals(expected.getValue(), crc.getValue());
+			inst.setMappedReadThreshold(Long.MAX_VALUE);
+			inst.setIncrementalDecode(true);
+			crc.reset();
+			Assert.assertEquals(str + str + str, inst.readString(tmpFile, crc));
+			Assert.assertEquals(expected.getValue(), crc.getValue());
+
+			// hash only
+			Assert.assertEquals(expected.getValue(), inst.checksum(tmpFile, new CRC32C()));
+			Assert.assertEquals(expected.getValue(), inst.checksum(inputStream(bts, 10), new CRC32C()));
+
+			// checksums are not computed by regular reads
+			crc.reset();
+			inst.readBytes(tmpFile);
+			Assert.assertEquals(new CRC32C().getValue(), crc.getValue());
+		} finally {
+			Files.delete(tmpFile);
+		}
+	}
+
+
+	@Test
+	public void readFileSizedTest() throws IOException {
+		FileReadUtil inst = new FileReadUtil(null, 64);
+		inst.setMappedReadThreshold(Long.MAX_VALUE);
+
+		byte[][] byteArys = { byteRange(200), byteRange(0), byteRange(30), byteRange(128), byteRange(200) };
+		Path tmpFile = Files.createTempFile("file-read-util-test", ".bin");
+		try {
+			for(byte[] bts : byteArys) {
+				Files.write(tmpFile, bts);
+				Assert.assertArrayEquals(bts, inst.readBytes(tmpFile));
+				Assert.assertArrayEquals(bts, inst.readBytes(tmpFile.toFile(), 16));
+			}
+			// the first file is the largest, the byte cache should only be allocated once
+			Assert.assertEquals(1, inst.getStats().getByteCacheResizeCount());
+			Assert.assertEquals(200, inst.getStats().getByteCacheSize());
+		} finally {
+			Files.delete(tmpFile);
+		}
+	}
+
+
 	private static byte[] getFileReadUtilByteBuf(FileReadUtil inst) {
 		try {
 			Field field = FileReadUtil.class.getDeclaredField("tmpByteBuf");
@@ -127,6 +598,17 @@ public class FileReadUtilTest {
 	}
 
 
+	/** A stream which does not report how many bytes are available, so readers cannot size buffers in advance */
+	static InputStream unknownSizeStream(byte[] buf) {
+		return new FilterInputStream(new ByteArrayInputStream(buf)) {
+			@Override
+			public int available() {
+				return 0;
+			}
+		};
+	}
+
+
 	static ByteArrayInputStream inputStream(byte[] buf, int limit) {
 		if(limit > 0) {
 			return new LimitedByteArrayInputStream(limit, buf);
@@ -1,8 +1,17 @@
 package twg2.io.test;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
+import org.junit.Assert;
 import org.junit.Test;
 
 import twg2.io.files.FileUtil;
@@ -69,4 +78,112 @@ public class FileUtilTest {
 		CheckTask.assertTests(fileExtInputs, fileNameNoExtExpected, (s) -> FileUtil.getFileNameWithoutExtension(s));
 	}
 
+
+	@Test
+	public void replaceFileTest() throws IOException {
+		Path dir = Files.createTempDirectory("file-util-test");
+		Path target = dir.resolve("config.txt");
+		Path source = dir.resolve("source.bin");
+		try {
+			// creates the file if it doesn't exist
+			FileUtil.replaceFile(target, "first \u00e9", StandardCharsets.UTF_8, false);
+			Assert.assertEquals("first \u00e9", new String(Files.readAllBytes(target), StandardCharsets.UTF_8));
+
+			FileUtil.replaceFile(target, new byte[] { 1, 2, 3 }, true);
+			Assert.assertArrayEquals(new byte[] { 1, 2, 3 }, Files.readAllBytes(target));
+
+			byte[] sourceBytes = new byte[100000];
+			for(int i = 0; i < sourceBytes.length; i++) {
+				sourceBytes[i] = (byte)(i * 7);
+			}
+			Files.write(source, sourceBytes);
+			FileUtil.replaceFile(target, source, true);
+			Assert.assertArrayEquals(sourceBytes, Files.readAllBytes(target));
+
+			// no temp files are left behind
+			try(Stream<Path> files = Files.list(dir)) {
+				Assert.assertEquals(2, files.count());
+			}
+
+			// a symbolic link is kept and the file it points to is replaced
+			Path link = dir.resolve("link.txt");
+			try {
+				Files.createSymbolicLink(link, target.getFileName());
+			} catch(UnsupportedOperationException | IOException e) {
+				link = null;
+			}
+			if(link != null) {
+				try {
+					FileUtil.replaceFile(link, new byte[] { 4, 5 }, false);
+					Assert.assertTrue(Files.isSymbolicLink(link));
+					Assert.assertArrayEquals(new byte[] { 4, 5 }, Files.readAllBytes(target));
+				} finally {
+					Files.delete(link);
+				}
+			}
+		} finally {
+			Files.deleteIfExists(target);
+			Files.deleteIfExists(source);
+			Files.deleteIfExists(dir);
+		}
+	}
+
+
+	@Test
+	public void appendToFilesParallelTest() throws IOException, InterruptedException {
+		Path dir = Files.createTempDirectory("file-util-test");
+		ExecutorService executor = Executors.newFixedThreadPool(3);
+		try {
+			int fileCount = 0;
+			for(int d = 0; d < 3; d++) {
+				Path subDir = Files.createDirectories(dir.resolve("sub" + d).resolve("sub" + d));
+				for(int i = 0; i < 10; i++) {
+					Files.write(subDir.resolve("file" + i + ".txt"), ("file " + i).getBytes(StandardCharsets.UTF_8));
+					Files.write(subDir.resolve("file" + i + ".bin"), new byte[] { 1 });
+					fileCount++;
+				}
+			}
+			Path emptyFile = Files.createFile(dir.resolve("empty.txt"));
+			fileCount++;
+
+			AtomicInteger progressCount = new AtomicInteger();
+			FileUtil.AppendResult res = FileUtil.appendToFiles(dir, ".txt", "// header\n", StandardCharsets.UTF_8, true, true, executor, 2,
+					(file, error, filesDone) -> progressCount.incrementAndGet());
+
+			Assert.assertTrue(res.isSuccess());
+			Assert.assertEquals(fileCount - 1, res.getModifiedCount());
+			Assert.assertEquals(1, res.getSkippedCount());
+			Assert.assertEquals(fileCount, progressCount.get());
+			Assert.assertEquals("// header\nfile 3", new String(Files.readAllBytes(dir.resolve("sub1/sub1/file3.txt")), StandardCharsets.UTF_8));
+			Assert.assertArrayEquals(new byte[] { 1 }, Files.readAllBytes(dir.resolve("sub1/sub1/file3.bin")));
+			Assert.assertEquals(0, Files.size(emptyFile));
+
+			// non-recursive append to the end, with the caller running rejected work
+			executor.shutdown();
+			res = FileUtil.appendToFiles(dir, null, "!", StandardCharsets.UTF_8, false, false, executor, 1, null);
+			Assert.assertEquals(1, res.getModifiedCount());
+			Assert.assertEquals("!", new String(Files.readAllBytes(emptyFile), StandardCharsets.UTF_8));
+			Assert.assertEquals("// header\nfile 3", new String(Files.readAllBytes(dir.resolve("sub1/sub1/file3.txt")), StandardCharsets.UTF_8));
+
+			// walk failures are reported instead of thrown
+			Path missing = dir.resolve("missing");
+			res = FileUtil.appendToFiles(missing, null, "!", StandardCharsets.UTF_8, false, true, executor, 1, null);
+			Assert.assertFalse(res.isSuccess());
+			Assert.assertTrue(res.getFailures().containsKey(missing));
+
+			// a throwing progress callback is recorded as a failure and doesn't stop the walk (rejected work runs on the walking thread)
+			res = FileUtil.appendToFiles(dir, ".bin", "", StandardCharsets.UTF_8, false, true, executor, 1, (file, error, filesDone) -> {
+				throw new IllegalStateException("progress failed");
+			});
+			Assert.assertEquals(fileCount - 1, res.getFailures().size());
+			Assert.assertEquals(fileCount - 1, res.getModifiedCount());
+			Assert.assertTrue(res.getFailures().values().iterator().next() instanceof IllegalStateException);
+		} finally {
+			executor.shutdownNow();
+			try(Stream<Path> files = Files.walk(dir)) {
+				files.sorted((a, b) -> b.compareTo(a)).forEach((p) -> p.toFile().delete());
+			}
+		}
+	}
+
 }
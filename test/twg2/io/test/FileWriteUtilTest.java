@@ -0,0 +1,131 @@
+package twg2.io.test;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import twg2.io.files.CharArrayView;
+import twg2.io.files.FileWriteUtil;
+
+/**
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+public class FileWriteUtilTest {
+	private Charset defaultCharset = Charset.forName("UTF-8");
+
+	@Test
+	public void writeTextTest() throws IOException {
+		// small buffers so text spans many chunks and surrogate pairs are split between chunks
+		FileWriteUtil writer = new FileWriteUtil(defaultCharset, 16);
+		StringBuilder mixed = new StringBuilder();
+		for(int i = 0; i < 50; i++) {
+			mixed.append("ab\ud83d\ude00 \u00e9\u65e5 ").append(i);
+		}
+		String ascii = "plain ascii text, longer than the buffer";
+
+		Path tmpFile = Files.createTempFile("file-write-util-test", ".txt");
+		try {
+			Assert.assertEquals(ascii.length(), writer.write(tmpFile, ascii));
+			Assert.assertEquals(ascii, new String(Files.readAllBytes(tmpFile), defaultCharset));
+			Assert.assertEquals(0, writer.getEncodeCount());
+
+			for(CharSequence text : new CharSequence[] { mixed, mixed.toString(), new CharArrayView(mixed.toString().toCharArray(), 0, mixed.length()), new CustomCharSequence(mixed) }) {
+				long size = writer.write(tmpFile, text);
+				byte[] expect = mixed.toString().getBytes(defaultCharset);
+				Assert.assertEquals(expect.length, size);
+				Assert.assertArrayEquals(expect, Files.readAllBytes(tmpFile));
+			}
+
+			// non-ASCII compatible charset and a char[] range
+			char[] chars = ("__" + mixed + "__").toCharArray();
+			writer.write(tmpFile, chars, 2, mixed.length(), StandardCharsets.UTF_16);
+			Assert.assertArrayEquals(mixed.toString().getBytes(StandardCharsets.UTF_16), Files.readAllBytes(tmpFile));
+
+			// unpaired surrogates are replaced
+			writer.write(tmpFile, "a\ud800", defaultCharset);
+			Assert.assertArrayEquals("a\ud800".getBytes(defaultCharset), Files.readAllBytes(tmpFile));
+
+			// append and empty writes
+			writer.write(tmpFile, "");
+			Assert.assertEquals(0, Files.size(tmpFile));
+			writer.append(tmpFile, "first ", defaultCharset);
+			writer.append(tmpFile, "second \u00e9", defaultCharset);
+			Assert.assertEquals("first second \u00e9", new String(Files.readAllBytes(tmpFile), defaultCharset));
+		} finally {
+			Files.deleteIfExists(tmpFile);
+		}
+	}
+
+
+	@Test
+	public void writeBytesTest() throws IOException {
+		FileWriteUtil writer = new FileWriteUtil(defaultCharset, 16);
+		byte[] bytes = new byte[1000];
+		for(int i = 0; i < bytes.length; i++) {
+			bytes[i] = (byte)(i * 31);
+		}
+
+		Path tmpFile = Files.createTempFile("file-write-util-test", ".bin");
+		try {
+			Assert.assertEquals(bytes.length, writer.write(tmpFile, bytes));
+			Assert.assertArrayEquals(bytes, Files.readAllBytes(tmpFile));
+
+			Assert.assertEquals(10, writer.write(tmpFile, bytes, 5, 10));
+			byte[] res = Files.readAllBytes(tmpFile);
+			Assert.assertEquals(10, res.length);
+			Assert.assertEquals(bytes[5], res[0]);
+			Assert.assertEquals(2, writer.getWriteCount());
+			Assert.assertEquals(bytes.length + 10, writer.getBytesWritten());
+		} finally {
+			Files.deleteIfExists(tmpFile);
+		}
+	}
+
+
+	@Test
+	public void minBufferSizeTest() throws IOException {
+		// buffers too small to hold a 4 byte code point would never make progress encoding it
+		for(int size : new int[] { 2, 3, 15 }) {
+			try {
+				new FileWriteUtil(defaultCharset, size);
+				Assert.fail("expected bufferSize " + size + " to be rejected");
+			} catch(IllegalArgumentException e) {
+				// expected
+			}
+		}
+
+		FileWriteUtil writer = new FileWriteUtil(defaultCharset, 16);
+		String text = "x\ud83d\ude00\ud83d\ude00\ud83d\ude00\ud83d\ude00\ud83d\ude00";
+		Path tmpFile = Files.createTempFile("file-write-util-test", ".txt");
+		try {
+			writer.write(tmpFile, text);
+			Assert.assertEquals(text, new String(Files.readAllBytes(tmpFile), defaultCharset));
+		} finally {
+			Files.deleteIfExists(tmpFile);
+		}
+	}
+
+
+
+
+	/** A {@link CharSequence} which isn't a String, StringBuilder, or CharArrayView */
+	private static class CustomCharSequence implements CharSequence {
+		private final CharSequence src;
+
+		public CustomCharSequence(CharSequence src) {
+			this.src = src;
+		}
+
+		@Override public int length() { return src.length(); }
+		@Override public char charAt(int index) { return src.charAt(index); }
+		@Override public CharSequence subSequence(int start, int end) { return src.subSequence(start, end); }
+		@Override public String toString() { return src.toString(); }
+	}
+
+}
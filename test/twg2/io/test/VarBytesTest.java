@@ -0,0 +1,143 @@
+package twg2.io.test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import twg2.io.files.VarBytes;
+
+/**
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+public class VarBytesTest {
+
+	@Test
+	public void varIntTest() {
+		int[] ints = { 0, 1, 127, 128, 300, 16383, 16384, -1, Integer.MIN_VALUE, Integer.MAX_VALUE, -64, 63 };
+		long[] longs = { 0L, 127L, 128L, 1L << 35, -1L, Long.MIN_VALUE, Long.MAX_VALUE, -12345678901L };
+		byte[] buf = new byte[ints.length * VarBytes.MAX_VAR_LONG_SIZE];
+
+		Assert.assertEquals(2, VarBytes.writeVarInt(300, buf, 0));
+		Assert.assertEquals((byte)0xAC, buf[0]);
+		Assert.assertEquals((byte)0x02, buf[1]);
+		Assert.assertEquals(1, VarBytes.varIntSize(127));
+		Assert.assertEquals(5, VarBytes.varIntSize(-1));
+		Assert.assertEquals(10, VarBytes.varLongSize(-1L));
+		Assert.assertEquals(1, VarBytes.encodeZigZag(-1));
+		Assert.assertEquals(4, VarBytes.encodeZigZag(2));
+		Assert.assertEquals(1, VarBytes.varIntSize(VarBytes.encodeZigZag(-64)));
+
+		// byte[] round trips, advancing by the value's encoded size
+		int off = 1;
+		for(int value : ints) {
+			off += VarBytes.writeVarInt(value, buf, off);
+			off += VarBytes.writeSignedVarInt(value, buf, off);
+		}
+		int end = off;
+		off = 1;
+		for(int value : ints) {
+			int res = VarBytes.readVarInt(buf, off);
+			Assert.assertEquals(value, res);
+			off += VarBytes.varIntSize(res);
+			int signedRes = VarBytes.readSignedVarInt(buf, off);
+			Assert.assertEquals(value, signedRes);
+			off += VarBytes.varIntSize(VarBytes.encodeZigZag(signedRes));
+		}
+		Assert.assertEquals(end, off);
+
+		off = 0;
+		for(long value : longs) {
+			Assert.assertEquals(VarBytes.varLongSize(value), VarBytes.writeVarLong(value, buf, off));
+			Assert.assertEquals(value, VarBytes.readVarLong(buf, off));
+			Assert.assertEquals(VarBytes.varLongSize(VarBytes.encodeZigZag(value)), VarBytes.writeSignedVarLong(value, buf, off));
+			Assert.assertEquals(value, VarBytes.readSignedVarLong(buf, off));
+		}
+
+		// ByteBuffer round trips
+		ByteBuffer bb = ByteBuffer.allocateDirect(256);
+		for(int value : ints) {
+			VarBytes.writeVarInt(value, bb);
+			VarBytes.writeSignedVarInt(value, bb);
+		}
+		for(long value : longs) {
+			VarBytes.writeSignedVarLong(value, bb);
+		}
+		bb.flip();
+		for(int value : ints) {
+			Assert.assertEquals(value, VarBytes.readVarInt(bb));
+			Assert.assertEquals(value, VarBytes.readSignedVarInt(bb));
+		}
+		for(long value : longs) {
+			Assert.assertEquals(value, VarBytes.readSignedVarLong(bb));
+		}
+		Assert.assertEquals(0, bb.remaining());
+
+		try {
+			VarBytes.readVarInt(new byte[] { -1, -1, -1, -1, -1, 1 }, 0);
+			Assert.fail("expected IllegalArgumentException");
+		} catch(IllegalArgumentException e) {
+			// expected
+		}
+	}
+
+
+	@Test
+	public void stringTest() {
+		String[] strs = { "", "abc", "caf\u00e9 \u2014 \u65e5\u672c \ud83d\ude00!", "\u07ff\u0800\uffff" };
+		byte[] buf = new byte[128];
+		char[] chars = new char[128];
+		ByteBuffer heapBuf = ByteBuffer.allocate(128);
+		ByteBuffer directBuf = ByteBuffer.allocateDirect(128);
+
+		for(String str : strs) {
+			byte[] utf8 = str.getBytes(StandardCharsets.UTF_8);
+			Assert.assertEquals(utf8.length, VarBytes.utf8Length(str));
+
+			int size = VarBytes.writeString(str, buf, 3);
+			Assert.assertEquals(VarBytes.encodedStringSize(str), size);
+			Assert.assertEquals(size, VarBytes.readStringSize(buf, 3));
+			Assert.assertArrayEquals(utf8, Arrays.copyOfRange(buf, 3 + size - utf8.length, 3 + size));
+			Assert.assertEquals(str, VarBytes.readString(buf, 3));
+			int charCount = VarBytes.readChars(buf, 3, chars, 2);
+			Assert.assertEquals(str, new String(chars, 2, charCount));
+
+			for(ByteBuffer bb : new ByteBuffer[] { heapBuf, directBuf }) {
+				bb.clear();
+				Assert.assertEquals(size, VarBytes.writeString(str, bb));
+				VarBytes.writeString(str, bb);
+				bb.flip();
+				Assert.assertEquals(str, VarBytes.readString(bb));
+				charCount = VarBytes.readChars(bb, chars, 0);
+				Assert.assertEquals(str, new String(chars, 0, charCount));
+				Assert.assertEquals(0, bb.remaining());
+			}
+		}
+
+		// unpaired surrogates are encoded like String.getBytes(), malformed input decodes to U+FFFD
+		String badStr = "a\ud800b";
+		VarBytes.writeString(badStr, buf, 0);
+		Assert.assertEquals("a?b", VarBytes.readString(buf, 0));
+		byte[] malformed = { 3, 'x', (byte)0xC0, (byte)0x80 };
+		int charCount = VarBytes.readChars(malformed, 0, chars, 0);
+		Assert.assertEquals("x\ufffd\ufffd", new String(chars, 0, charCount));
+
+		// an encoded surrogate (ED A0 80 = U+D800) is malformed, like the JDK's UTF-8 decoder
+		byte[] surrogate = { 5, 'a', (byte)0xED, (byte)0xA0, (byte)0x80, 'b' };
+		charCount = VarBytes.readChars(surrogate, 0, chars, 0);
+		Assert.assertEquals("a\ufffdb", new String(chars, 0, charCount));
+		charCount = VarBytes.readChars(ByteBuffer.allocateDirect(surrogate.length).put(surrogate).flip(), chars, 0);
+		Assert.assertEquals("a\ufffdb", new String(chars, 0, charCount));
+
+		try {
+			VarBytes.writeString("too long", new byte[4], 0);
+			Assert.fail("expected IndexOutOfBoundsException");
+		} catch(IndexOutOfBoundsException e) {
+			// expected
+		}
+	}
+
+}